@@ -2,6 +2,7 @@ package zeno.util.calc;
 
 import zeno.util.calc.variables.Argument;
 import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.Operator;
 import zeno.util.calc.variables.functions.Constant;
 import zeno.util.tools.primitives.Doubles;
 
@@ -24,13 +25,30 @@ public final class Functions
 	 */
 	public static Function Multiply(Variable x, Variable y)
 	{
-		return new Function()
+		return new Function(Operator.MULTIPLY, x, y)
 		{
 			@Override
 			public double evaluate(double... args)
 			{
-				return x.evaluate(args[0])
-					 * y.evaluate(args[1]);
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
+				return evaluate2(args[0], args[1]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				return evaluate2(val, val);
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
+			{
+				return x.evaluate1(val1)
+					 * y.evaluate1(val2);
 			}
 		};
 	}
@@ -44,13 +62,30 @@ public final class Functions
 	 */
 	public static Function Subtract(Variable x, Variable y)
 	{
-		return new Function()
+		return new Function(Operator.SUBTRACT, x, y)
 		{
 			@Override
 			public double evaluate(double... args)
 			{
-				return x.evaluate(args[0])
-					 - y.evaluate(args[1]);
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
+				return evaluate2(args[0], args[1]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				return evaluate2(val, val);
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
+			{
+				return x.evaluate1(val1)
+					 - y.evaluate1(val2);
 			}
 		};
 	}
@@ -64,13 +99,30 @@ public final class Functions
 	 */
 	public static Function Divide(Variable x, Variable y)
 	{
-		return new Function()
+		return new Function(Operator.DIVIDE, x, y)
 		{
 			@Override
 			public double evaluate(double... args)
 			{
-				return x.evaluate(args[0])
-					 / y.evaluate(args[1]);
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
+				return evaluate2(args[0], args[1]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				return evaluate2(val, val);
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
+			{
+				return x.evaluate1(val1)
+					 / y.evaluate1(val2);
 			}
 		};
 	}
@@ -84,13 +136,30 @@ public final class Functions
 	 */
 	public static Function Add(Variable x, Variable y)
 	{
-		return new Function()
+		return new Function(Operator.ADD, x, y)
 		{
 			@Override
 			public double evaluate(double... args)
 			{
-				return x.evaluate(args[0])
-					 + y.evaluate(args[1]);
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
+				return evaluate2(args[0], args[1]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				return evaluate2(val, val);
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
+			{
+				return x.evaluate1(val1)
+					 + y.evaluate1(val2);
 			}
 		};
 	}
@@ -108,15 +177,32 @@ public final class Functions
 	 */
 	public static Function Pow(Variable x, Variable p)
 	{
-		return new Function()
+		return new Function(Operator.POW, x, p)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
+				return evaluate2(args[0], args[1]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				return evaluate2(val, val);
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
 			{
 				return Doubles.pow
 				(
-					x.evaluate(args[0]),
-					p.evaluate(args[1])
+					x.evaluate1(val1),
+					p.evaluate1(val2)
 				);
 			}
 		};
@@ -154,14 +240,20 @@ public final class Functions
 	 */
 	public static Function Exp(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.EXP, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.exp
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -227,16 +319,64 @@ public final class Functions
 	 */
 	public static Function Min(Variable... vars)
 	{
-		return new Function()
+		return new Function(Operator.MIN, vars)
 		{
 			@Override
 			public double evaluate(double... args)
 			{
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
 				return Doubles.min
 				(
 					eval(vars, args)
 				);
 			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				double min = vars[0].evaluate1(val);
+				for(int i = 1; i < vars.length; i++)
+				{
+					min = Math.min(min, vars[i].evaluate1(val));
+				}
+				
+				return min;
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
+			{
+				switch(vars.length)
+				{
+				case 1:
+					return vars[0].evaluate1(val1);
+				case 2:
+					return Math.min(vars[0].evaluate1(val1), vars[1].evaluate1(val2));
+				default:
+					return evaluate(val1, val2);
+				}
+			}
+			
+			@Override
+			public double evaluate3(double val1, double val2, double val3)
+			{
+				switch(vars.length)
+				{
+				case 1:
+					return vars[0].evaluate1(val1);
+				case 2:
+					return Math.min(vars[0].evaluate1(val1), vars[1].evaluate1(val2));
+				case 3:
+					double min = Math.min(vars[0].evaluate1(val1), vars[1].evaluate1(val2));
+					return Math.min(min, vars[2].evaluate1(val3));
+				default:
+					return evaluate(val1, val2, val3);
+				}
+			}
 		};
 	}
 		
@@ -248,16 +388,64 @@ public final class Functions
 	 */
 	public static Function Max(Variable... vars)
 	{
-		return new Function()
+		return new Function(Operator.MAX, vars)
 		{
 			@Override
 			public double evaluate(double... args)
 			{
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
 				return Doubles.max
 				(
 					eval(vars, args)
 				);
 			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				double max = vars[0].evaluate1(val);
+				for(int i = 1; i < vars.length; i++)
+				{
+					max = Math.max(max, vars[i].evaluate1(val));
+				}
+				
+				return max;
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
+			{
+				switch(vars.length)
+				{
+				case 1:
+					return vars[0].evaluate1(val1);
+				case 2:
+					return Math.max(vars[0].evaluate1(val1), vars[1].evaluate1(val2));
+				default:
+					return evaluate(val1, val2);
+				}
+			}
+			
+			@Override
+			public double evaluate3(double val1, double val2, double val3)
+			{
+				switch(vars.length)
+				{
+				case 1:
+					return vars[0].evaluate1(val1);
+				case 2:
+					return Math.max(vars[0].evaluate1(val1), vars[1].evaluate1(val2));
+				case 3:
+					double max = Math.max(vars[0].evaluate1(val1), vars[1].evaluate1(val2));
+					return Math.max(max, vars[2].evaluate1(val3));
+				default:
+					return evaluate(val1, val2, val3);
+				}
+			}
 		};
 	}
 		
@@ -269,14 +457,20 @@ public final class Functions
 	 */
 	public static Function Sign(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.SIGN, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.sign
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -290,14 +484,20 @@ public final class Functions
 	 */
 	public static Function Abs(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.ABS, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.abs
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -361,15 +561,32 @@ public final class Functions
 	 */
 	public static Function Log(Variable var, Variable base)
 	{
-		return new Function()
+		return new Function(Operator.LOG, var, base)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
+				return evaluate2(args[0], args[1]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				return evaluate2(val, val);
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
 			{
 				return Doubles.log
 				(
-					 var.evaluate(args[0]),
-					base.evaluate(args[1])
+					 var.evaluate1(val1),
+					base.evaluate1(val2)
 				);
 			}
 		};
@@ -407,14 +624,20 @@ public final class Functions
 	 */
 	public static Function Log10(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.LOG10, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.log10
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -428,14 +651,20 @@ public final class Functions
 	 */
 	public static Function Ln(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.LN, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.ln
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -512,14 +741,20 @@ public final class Functions
 	 */
 	public static Function Cbrt(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.CBRT, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.cbrt
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -533,14 +768,20 @@ public final class Functions
 	 */
 	public static Function Sqrt(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.SQRT, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.sqrt
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -583,16 +824,33 @@ public final class Functions
 	 */
 	public static Function Clamp(Variable var, Variable min, Variable max)
 	{
-		return new Function()
+		return new Function(Operator.CLAMP, var, min, max)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
+				return evaluate3(args[0], args[1], args[2]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				return evaluate3(val, val, val);
+			}
+			
+			@Override
+			public double evaluate3(double val1, double val2, double val3)
 			{
 				return Doubles.clamp
 				(
-					var.evaluate(args[0]),
-					min.evaluate(args[1]),
-					max.evaluate(args[2])
+					var.evaluate1(val1),
+					min.evaluate1(val2),
+					max.evaluate1(val3)
 				);
 			}
 		};
@@ -647,14 +905,20 @@ public final class Functions
 	 */
 	public static Function Round(Variable var, int dec)
 	{		
-		return new Function()
+		return new Function(Operator.ROUND, var, Constant.from(dec))
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.round
 				(
-					var.evaluate(args[0]),
+					var.evaluate1(val),
 					dec
 				);
 			}
@@ -669,14 +933,20 @@ public final class Functions
 	 */
 	public static Function Round(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.ROUND, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.round
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -690,14 +960,20 @@ public final class Functions
 	 */
 	public static Function Floor(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.FLOOR, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.floor
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -711,14 +987,20 @@ public final class Functions
 	 */
 	public static Function Ceil(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.CEIL, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.ceil
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -783,15 +1065,32 @@ public final class Functions
 	 */
 	public static Function Atan2(Variable x, Variable y)
 	{
-		return new Function()
+		return new Function(Operator.ATAN2, x, y)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				if(args.length == 1)
+				{
+					return evaluate1(args[0]);
+				}
+				
+				return evaluate2(args[0], args[1]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
+			{
+				return evaluate2(val, val);
+			}
+			
+			@Override
+			public double evaluate2(double val1, double val2)
 			{
 				return Doubles.atan2
 				(
-					x.evaluate(args[0]),
-					y.evaluate(args[1])
+					x.evaluate1(val1),
+					y.evaluate1(val2)
 				);
 			}
 		};
@@ -818,14 +1117,20 @@ public final class Functions
 	 */
 	public static Function Sin(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.SIN, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.sin
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -839,14 +1144,20 @@ public final class Functions
 	 */
 	public static Function Cos(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.COS, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.cos
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -860,14 +1171,20 @@ public final class Functions
 	 */
 	public static Function Tan(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.TAN, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.tan
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -915,14 +1232,20 @@ public final class Functions
 	 */
 	public static Function Cosh(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.COSH, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.cosh
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -936,14 +1259,20 @@ public final class Functions
 	 */
 	public static Function Sinh(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.SINH, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.sinh
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -957,14 +1286,20 @@ public final class Functions
 	 */
 	public static Function Tanh(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.TANH, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.tanh
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -1012,14 +1347,20 @@ public final class Functions
 	 */
 	public static Function Acos(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.ACOS, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.acos
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -1033,14 +1374,20 @@ public final class Functions
 	 */
 	public static Function ASin(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.ASIN, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.asin
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -1054,14 +1401,20 @@ public final class Functions
 	 */
 	public static Function ATan(Variable var)
 	{
-		return new Function()
+		return new Function(Operator.ATAN, var)
 		{
 			@Override
 			public double evaluate(double... args)
+			{
+				return evaluate1(args[0]);
+			}
+			
+			@Override
+			public double evaluate1(double val)
 			{
 				return Doubles.atan
 				(
-					var.evaluate(args[0])
+					var.evaluate1(val)
 				);
 			}
 		};
@@ -1107,7 +1460,7 @@ public final class Functions
 		double[] result = new double[vars.length];
 		for(int i = 0; i < vars.length; i++)
 		{
-			result[i] = vars[i].evaluate(vals[i]);
+			result[i] = vars[i].evaluate1(vals[i]);
 		}
 		
 		return result;
@@ -2,6 +2,10 @@ package zeno.util.calc;
 
 import zeno.util.calc.variables.Argument;
 import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.algorithms.BoundFunction;
+import zeno.util.calc.variables.algorithms.Differentiator;
+import zeno.util.calc.variables.algorithms.FunctionCompiler;
+import zeno.util.calc.variables.algorithms.Simplifier;
 import zeno.util.calc.variables.functions.Constant;
 
 /**
@@ -15,12 +19,152 @@ public interface Variable
 {
 	/**
 	 * Evaluates the {@code Variable} for specific values.
+	 * <br> A function passes a single value on to each of its operands.
+	 * For more values, the root passes value {@code i} on to operand {@code i},
+	 * and each nested operand passes the value it receives on to its own operands.
 	 * 
 	 * @param args  an list of arguments
 	 * @return  the evaluated result
 	 */
 	public abstract double evaluate(double... args);
 
+	/**
+	 * Evaluates the {@code Variable} for a single value.
+	 * <br> A function evaluated for a single value
+	 * passes that value on to each of its operands.
+	 *
+	 * @param val  a single argument
+	 * @return  the evaluated result
+	 */
+	public default double evaluate1(double val)
+	{
+		return evaluate(val);
+	}
+
+	/**
+	 * Evaluates the {@code Variable} for two values.
+	 *
+	 * @param val1  the first argument
+	 * @param val2  the second argument
+	 * @return  the evaluated result
+	 */
+	public default double evaluate2(double val1, double val2)
+	{
+		return evaluate(val1, val2);
+	}
+
+	/**
+	 * Evaluates the {@code Variable} for three values.
+	 *
+	 * @param val1  the first argument
+	 * @param val2  the second argument
+	 * @param val3  the third argument
+	 * @return  the evaluated result
+	 */
+	public default double evaluate3(double val1, double val2, double val3)
+	{
+		return evaluate(val1, val2, val3);
+	}
+	
+	/**
+	 * Evaluates the {@code Variable} for columns of values.
+	 * <br> Each row of the columns is evaluated as a list of arguments,
+	 * and its result is stored in the same row of the output column.
+	 * The output column must not be one of the argument columns.
+	 * 
+	 * @param columns  a list of argument columns
+	 * @param out  the output column
+	 */
+	public default void evaluateBatch(double[][] columns, double[] out)
+	{
+		double[] args = new double[columns.length];
+		for(int row = 0; row < out.length; row++)
+		{
+			for(int i = 0; i < columns.length; i++)
+			{
+				args[i] = columns[i][row];
+			}
+			
+			out[row] = evaluate(args);
+		}
+	}
+
+	/**
+	 * Differentiates the {@code Variable} with respect to an argument slot.
+	 * <br> The derivative routes its values the same way the variable does,
+	 * and holds the leaves of every other slot constant.
+	 * 
+	 * @param slot  an argument slot to differentiate for
+	 * @return  the variable's derivative
+	 * @see Differentiator
+	 */
+	public default Variable derivative(int slot)
+	{
+		return Differentiator.derive(this, slot);
+	}
+
+	/**
+	 * Differentiates the {@code Variable} with respect to an {@code Argument}.
+	 * <br> The argument selects the slot of the root operand it appears in,
+	 * and the leaves of every other slot are held constant.
+	 * 
+	 * @param arg  an argument to differentiate for
+	 * @return  the variable's derivative
+	 * @see Differentiator
+	 */
+	public default Variable derivative(Argument arg)
+	{
+		return Differentiator.derive(this, arg);
+	}
+
+	/**
+	 * Differentiates the {@code Variable} with respect to an {@code Argument}.
+	 * 
+	 * @param arg  an argument name to differentiate for
+	 * @return  the variable's derivative
+	 * @see Differentiator
+	 */
+	public default Variable derivative(String arg)
+	{
+		return derivative(Argument.from(arg));
+	}
+	
+	/**
+	 * Simplifies the {@code Variable} by folding constants and removing identities.
+	 * 
+	 * @return  the simplified variable
+	 * @see Simplifier
+	 */
+	public default Variable simplify()
+	{
+		return Simplifier.simplify(this);
+	}
+	
+	/**
+	 * Binds the arguments of the {@code Variable} to slots by name.
+	 * <br> If no names are given, the arguments are bound
+	 * in the order in which they first appear.
+	 * 
+	 * @param names  the argument name of each slot
+	 * @return  a bound function
+	 * @see BoundFunction
+	 */
+	public default BoundFunction bind(String... names)
+	{
+		return BoundFunction.bind(this, names);
+	}
+	
+	/**
+	 * Compiles the {@code Variable} to a bytecode {@code Function}.
+	 * 
+	 * @return  a compiled function
+	 * @see FunctionCompiler
+	 */
+	public default Function compile()
+	{
+		return FunctionCompiler.compile(this);
+	}
+
 	
 	/**
 	 * Returns a multiplication {@code Function}.
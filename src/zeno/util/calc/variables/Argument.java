@@ -63,6 +63,30 @@ public class Argument implements Discernible, Variable
 		return args[0];
 	}
 	
+	@Override
+	public double evaluate1(double val)
+	{
+		return val;
+	}
+	
+	@Override
+	public double evaluate2(double val1, double val2)
+	{
+		return val1;
+	}
+	
+	@Override
+	public double evaluate3(double val1, double val2, double val3)
+	{
+		return val1;
+	}
+	
+	@Override
+	public void evaluateBatch(double[][] columns, double[] out)
+	{
+		System.arraycopy(columns[0], 0, out, 0, out.length);
+	}
+	
 	@Override
 	public String toString()
 	{
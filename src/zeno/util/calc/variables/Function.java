@@ -12,6 +12,113 @@ import zeno.util.calc.Variable;
  * @see Variable
  */
 public abstract class Function implements Variable
-{	
-	// NOT APPLICABLE
-}
\ No newline at end of file
+{
+	private Operator operator;
+	private Variable[] operands;
+
+	/**
+	 * Creates a new {@code Function}.
+	 * 
+	 * @param operator  the function's operator
+	 * @param operands  the function's operands
+	 * @see Operator
+	 * @see Variable
+	 */
+	protected Function(Operator operator, Variable... operands)
+	{
+		this.operator = operator;
+		this.operands = operands;
+	}
+
+	/**
+	 * Creates a new {@code Function}.
+	 */
+	protected Function()
+	{
+		this(null);
+	}
+
+
+	/**
+	 * Returns the operator of the {@code Function}.
+	 * 
+	 * @return  the function's operator, or {@code null}
+	 * @see Operator
+	 */
+	public Operator Operator()
+	{
+		return operator;
+	}
+
+	/**
+	 * Returns the operands of the {@code Function}.
+	 * 
+	 * @return  the function's operands
+	 * @see Variable
+	 */
+	public Variable[] Operands()
+	{
+		if(operands != null)
+		{
+			return operands.clone();
+		}
+
+		return new Variable[0];
+	}
+
+
+	@Override
+	public void evaluateBatch(double[][] columns, double[] out)
+	{
+		if(operator == null)
+		{
+			Variable.super.evaluateBatch(columns, out);
+			return;
+		}
+
+
+		// Evaluate the first operand in place.
+		operands[0].evaluateBatch(route(columns, 0), out);
+		if(operands.length == 1)
+		{
+			operator.apply(out, out);
+			return;
+		}
+
+		double[] col1 = new double[out.length];
+		operands[1].evaluateBatch(route(columns, 1), col1);
+		if(operands.length == 2)
+		{
+			operator.apply(out, col1, out);
+			return;
+		}
+
+		// Fold variadic operators pairwise.
+		if(operator == Operator.MIN || operator == Operator.MAX)
+		{
+			operator.apply(out, col1, out);
+			for(int i = 2; i < operands.length; i++)
+			{
+				operands[i].evaluateBatch(route(columns, i), col1);
+				operator.apply(out, col1, out);
+			}
+
+			return;
+		}
+
+		double[] col2 = new double[out.length];
+		operands[2].evaluateBatch(route(columns, 2), col2);
+		operator.apply(out, col1, col2, out);
+	}
+
+	private static double[][] route(double[][] columns, int operand)
+	{
+		// A single column is passed on to each operand.
+		if(columns.length == 1)
+		{
+			return columns;
+		}
+
+		return new double[][]{columns[operand]};
+	}
+}
@@ -0,0 +1,592 @@
+package zeno.util.calc.variables;
+
+import zeno.util.calc.Functions;
+import zeno.util.tools.primitives.Doubles;
+
+/**
+ * The {@code Operator} enum defines the operations a {@link Function} can be built from.
+ * <br> Each operator corresponds to one of the factories in {@link Functions},
+ * and evaluates its operation on already evaluated operands.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see Functions
+ * @see Function
+ */
+public enum Operator
+{
+	// Arithmetic
+
+	/**
+	 * The {@link Functions#Multiply} operator.
+	 */
+	MULTIPLY
+	{
+		@Override
+		public double apply(double a, double b)
+		{
+			return a * b;
+		}
+		
+		@Override
+		public void apply(double[] a, double[] b, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = a[i] * b[i];
+			}
+		}
+	},
+
+	/**
+	 * The {@link Functions#Subtract} operator.
+	 */
+	SUBTRACT
+	{
+		@Override
+		public double apply(double a, double b)
+		{
+			return a - b;
+		}
+		
+		@Override
+		public void apply(double[] a, double[] b, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = a[i] - b[i];
+			}
+		}
+	},
+
+	/**
+	 * The {@link Functions#Divide} operator.
+	 */
+	DIVIDE
+	{
+		@Override
+		public double apply(double a, double b)
+		{
+			return a / b;
+		}
+		
+		@Override
+		public void apply(double[] a, double[] b, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = a[i] / b[i];
+			}
+		}
+	},
+
+	/**
+	 * The {@link Functions#Add} operator.
+	 */
+	ADD
+	{
+		@Override
+		public double apply(double a, double b)
+		{
+			return a + b;
+		}
+		
+		@Override
+		public void apply(double[] a, double[] b, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = a[i] + b[i];
+			}
+		}
+	},
+
+
+	// Exponential
+
+	/**
+	 * The {@link Functions#Pow} operator.
+	 */
+	POW
+	{
+		@Override
+		public double apply(double a, double b)
+		{
+			return Doubles.pow(a, b);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Exp} operator.
+	 */
+	EXP
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.exp(a);
+		}
+	},
+
+
+	// Extremes
+
+	/**
+	 * The {@link Functions#Min} operator.
+	 * <br> Its operands are folded pairwise.
+	 */
+	MIN
+	{
+		@Override
+		public double apply(double a)
+		{
+			return a;
+		}
+
+		@Override
+		public double apply(double a, double b)
+		{
+			return Math.min(a, b);
+		}
+		
+		@Override
+		public void apply(double[] a, double[] b, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = Math.min(a[i], b[i]);
+			}
+		}
+	},
+
+	/**
+	 * The {@link Functions#Max} operator.
+	 * <br> Its operands are folded pairwise.
+	 */
+	MAX
+	{
+		@Override
+		public double apply(double a)
+		{
+			return a;
+		}
+
+		@Override
+		public double apply(double a, double b)
+		{
+			return Math.max(a, b);
+		}
+		
+		@Override
+		public void apply(double[] a, double[] b, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = Math.max(a[i], b[i]);
+			}
+		}
+	},
+
+	/**
+	 * The {@link Functions#Sign} operator.
+	 */
+	SIGN
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.sign(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Abs} operator.
+	 */
+	ABS
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.abs(a);
+		}
+		
+		@Override
+		public void apply(double[] a, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = Doubles.abs(a[i]);
+			}
+		}
+	},
+
+
+	// Logarithms
+
+	/**
+	 * The {@link Functions#Log} operator.
+	 */
+	LOG
+	{
+		@Override
+		public double apply(double a, double b)
+		{
+			return Doubles.log(a, b);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Log10} operator.
+	 */
+	LOG10
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.log10(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Ln} operator.
+	 */
+	LN
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.ln(a);
+		}
+	},
+
+
+	// Roots
+
+	/**
+	 * The {@link Functions#Cbrt} operator.
+	 */
+	CBRT
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.cbrt(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Sqrt} operator.
+	 */
+	SQRT
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.sqrt(a);
+		}
+		
+		@Override
+		public void apply(double[] a, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = Doubles.sqrt(a[i]);
+			}
+		}
+	},
+
+
+	// Rounding
+
+	/**
+	 * The {@link Functions#Clamp} operator.
+	 */
+	CLAMP
+	{
+		@Override
+		public double apply(double a, double b, double c)
+		{
+			return Doubles.clamp(a, b, c);
+		}
+		
+		@Override
+		public void apply(double[] a, double[] b, double[] c, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = Doubles.clamp(a[i], b[i], c[i]);
+			}
+		}
+	},
+
+	/**
+	 * The {@link Functions#Round} operator.
+	 * <br> Its optional second operand is a constant decimal count.
+	 */
+	ROUND
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.round(a);
+		}
+
+		@Override
+		public double apply(double a, double b)
+		{
+			return Doubles.round(a, (int) b);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Floor} operator.
+	 */
+	FLOOR
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.floor(a);
+		}
+		
+		@Override
+		public void apply(double[] a, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = Doubles.floor(a[i]);
+			}
+		}
+	},
+
+	/**
+	 * The {@link Functions#Ceil} operator.
+	 */
+	CEIL
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.ceil(a);
+		}
+		
+		@Override
+		public void apply(double[] a, double[] out)
+		{
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = Doubles.ceil(a[i]);
+			}
+		}
+	},
+
+
+	// Trigonometry
+
+	/**
+	 * The {@link Functions#Atan2} operator.
+	 */
+	ATAN2
+	{
+		@Override
+		public double apply(double a, double b)
+		{
+			return Doubles.atan2(a, b);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Sin} operator.
+	 */
+	SIN
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.sin(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Cos} operator.
+	 */
+	COS
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.cos(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Tan} operator.
+	 */
+	TAN
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.tan(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Cosh} operator.
+	 */
+	COSH
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.cosh(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Sinh} operator.
+	 */
+	SINH
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.sinh(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Tanh} operator.
+	 */
+	TANH
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.tanh(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#Acos} operator.
+	 */
+	ACOS
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.acos(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#ASin} operator.
+	 */
+	ASIN
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.asin(a);
+		}
+	},
+
+	/**
+	 * The {@link Functions#ATan} operator.
+	 */
+	ATAN
+	{
+		@Override
+		public double apply(double a)
+		{
+			return Doubles.atan(a);
+		}
+	};
+
+
+	/**
+	 * Applies the {@code Operator} to a single operand.
+	 * 
+	 * @param a  the first operand
+	 * @return  the operation's result
+	 */
+	public double apply(double a)
+	{
+		throw new UnsupportedOperationException(this + " does not take one operand.");
+	}
+
+	/**
+	 * Applies the {@code Operator} to two operands.
+	 * 
+	 * @param a  the first operand
+	 * @param b  the second operand
+	 * @return  the operation's result
+	 */
+	public double apply(double a, double b)
+	{
+		throw new UnsupportedOperationException(this + " does not take two operands.");
+	}
+
+	/**
+	 * Applies the {@code Operator} to three operands.
+	 * 
+	 * @param a  the first operand
+	 * @param b  the second operand
+	 * @param c  the third operand
+	 * @return  the operation's result
+	 */
+	public double apply(double a, double b, double c)
+	{
+		throw new UnsupportedOperationException(this + " does not take three operands.");
+	}
+	
+	
+	/**
+	 * Applies the {@code Operator} to a column of single operands.
+	 * <br> The output column may be the same array as the operand column.
+	 * 
+	 * @param a  the first operand column
+	 * @param out  the output column
+	 */
+	public void apply(double[] a, double[] out)
+	{
+		for(int i = 0; i < out.length; i++)
+		{
+			out[i] = apply(a[i]);
+		}
+	}
+	
+	/**
+	 * Applies the {@code Operator} to columns of two operands.
+	 * <br> The output column may be the same array as an operand column.
+	 * 
+	 * @param a  the first operand column
+	 * @param b  the second operand column
+	 * @param out  the output column
+	 */
+	public void apply(double[] a, double[] b, double[] out)
+	{
+		for(int i = 0; i < out.length; i++)
+		{
+			out[i] = apply(a[i], b[i]);
+		}
+	}
+	
+	/**
+	 * Applies the {@code Operator} to columns of three operands.
+	 * <br> The output column may be the same array as an operand column.
+	 * 
+	 * @param a  the first operand column
+	 * @param b  the second operand column
+	 * @param c  the third operand column
+	 * @param out  the output column
+	 */
+	public void apply(double[] a, double[] b, double[] c, double[] out)
+	{
+		for(int i = 0; i < out.length; i++)
+		{
+			out[i] = apply(a[i], b[i], c[i]);
+		}
+	}
+}
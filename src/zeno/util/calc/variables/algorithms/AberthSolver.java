@@ -0,0 +1,311 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code AberthSolver} class finds polynomial roots with the {@code Aberth-Ehrlich method}.
+ * <br> Each iteration computes the corrections of all roots from the previous
+ * approximations, so the corrections are independent and can be computed in parallel.
+ * Approximations of high degree polynomials are updated in parallel streams.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Aberth_method">Aberth Method</a>
+ * @see RootFinder
+ */
+final class AberthSolver
+{
+	private static final int PARALLEL_DEGREE = 256;
+	private static final double ANGLE_OFFSET = 0.4;
+	private static final double REAL_TOLERANCE = 1e-6;
+	private static final double SEED_OFFSET = 1e-8;
+
+
+	/**
+	 * Finds the roots of a polynomial.
+	 * 
+	 * @param coef  the polynomial's cofficients, from lowest to highest degree
+	 * @param iterations  a max iteration count
+	 * @param abstol  an absolute tolerance
+	 * @param reltol  a relative tolerance
+	 * @return  the polynomial's roots
+	 */
+	public static List<Root> solve(double[] coef, int iterations, double abstol, double reltol)
+	{
+		return solve(coef, null, iterations, abstol, reltol);
+	}
+
+	/**
+	 * Finds the roots of a polynomial from initial guesses.
+	 * <br> The guesses are ignored unless there is one for each root.
+	 * The roots are returned in the order of their guesses.
+	 * 
+	 * @param coef  the polynomial's cofficients, from lowest to highest degree
+	 * @param guesses  the roots' initial guesses, or {@code null}
+	 * @param iterations  a max iteration count
+	 * @param abstol  an absolute tolerance
+	 * @param reltol  a relative tolerance
+	 * @return  the polynomial's roots
+	 */
+	public static List<Root> solve(double[] coef, Root[] guesses, int iterations, double abstol, double reltol)
+	{
+		List<Root> roots = new ArrayList<>();
+
+		// Trim the leading zero cofficients.
+		int max = coef.length - 1;
+		while(max > 0 && coef[max] == 0)
+		{
+			max--;
+		}
+
+		// Guesses already place the roots at zero.
+		boolean isWarm = guesses != null && guesses.length == max;
+
+		// Divide out the roots at zero.
+		int min = 0;
+		while(!isWarm && min < max && coef[min] == 0)
+		{
+			roots.add(new Root(0, 0));
+			min++;
+		}
+
+		int deg = max - min;
+		if(deg < 1)
+		{
+			return roots;
+		}
+
+
+		double[] poly = new double[deg + 1];
+		for(int d = 0; d <= deg; d++)
+		{
+			poly[d] = coef[min + d] / coef[max];
+		}
+
+		double[] re = new double[deg], im = new double[deg];
+		if(isWarm)
+		{
+			seed(guesses, re, im);
+		}
+		else
+		{
+			// Spread the initial guesses over a circle.
+			double radius = Math.pow(Math.abs(poly[0]), 1d / deg);
+			for(int k = 0; k < deg; k++)
+			{
+				double angle = 2 * Math.PI * k / deg + ANGLE_OFFSET;
+				re[k] = radius * Math.cos(angle);
+				im[k] = radius * Math.sin(angle);
+			}
+		}
+
+
+		double[] nre = new double[deg], nim = new double[deg];
+		boolean[] done = new boolean[deg];
+		for(int i = 0; i < iterations; i++)
+		{
+			IntStream range = IntStream.range(0, deg);
+			if(deg >= PARALLEL_DEGREE)
+			{
+				range = range.parallel();
+			}
+
+			range.forEach(k -> done[k] = correct(poly, re, im, nre, nim, k, abstol, reltol));
+
+			System.arraycopy(nre, 0, re, 0, deg);
+			System.arraycopy(nim, 0, im, 0, deg);
+			if(isDone(done))
+			{
+				break;
+			}
+		}
+
+
+		for(int k = 0; k < deg; k++)
+		{
+			roots.add(new Root(re[k], real(poly, re[k], im[k])));
+		}
+
+		return roots;
+	}
+
+
+	private static void seed(Root[] guesses, double[] re, double[] im)
+	{
+		for(int k = 0; k < re.length; k++)
+		{
+			re[k] = guesses[k].Real();
+			im[k] = guesses[k].Imaginary();
+
+			// Equal guesses would repel each other infinitely.
+			for(int j = 0; j < k; j++)
+			{
+				if(re[j] == re[k] && im[j] == im[k])
+				{
+					double size = SEED_OFFSET * (1 + Math.hypot(re[k], im[k]));
+					double angle = 2 * Math.PI * k / re.length + ANGLE_OFFSET;
+					re[k] += size * Math.cos(angle);
+					im[k] += size * Math.sin(angle);
+					j = -1;
+				}
+			}
+		}
+	}
+
+	private static boolean correct(double[] poly, double[] re, double[] im, double[] nre, double[] nim, int k, double abstol, double reltol)
+	{
+		double zr = re[k], zi = im[k];
+		double zn = zr * zr + zi * zi;
+
+		// Evaluate the reversed polynomial in 1 / z outside the unit circle.
+		int deg = poly.length - 1;
+		boolean isReversed = zn > 1;
+		double xr = zr, xi = zi;
+		if(isReversed)
+		{
+			xr =  zr / zn;
+			xi = -zi / zn;
+		}
+
+		// Evaluate the polynomial and its derivative with Horner's method.
+		double pr = poly[isReversed ? 0 : deg], pi = 0;
+		double dr = 0, di = 0;
+		for(int d = deg - 1; d >= 0; d--)
+		{
+			double tr = dr * xr - di * xi + pr;
+			di = dr * xi + di * xr + pi;
+			dr = tr;
+
+			tr = pr * xr - pi * xi + poly[isReversed ? deg - d : d];
+			pi = pr * xi + pi * xr;
+			pr = tr;
+		}
+
+		if(pr == 0 && pi == 0)
+		{
+			nre[k] = zr;
+			nim[k] = zi;
+			return true;
+		}
+
+		// Newton's correction w = p / p'.
+		double wr, wi;
+		double rr = (dr * pr + di * pi) / (pr * pr + pi * pi);
+		double ri = (di * pr - dr * pi) / (pr * pr + pi * pi);
+		if(isReversed)
+		{
+			// p' / p = y.(n - y.r' / r) with y = 1 / z.
+			double tr = deg - (xr * rr - xi * ri);
+			double ti = -(xr * ri + xi * rr);
+			double ur = xr * tr - xi * ti;
+			double ui = xr * ti + xi * tr;
+			double un = ur * ur + ui * ui;
+			wr =  ur / un;
+			wi = -ui / un;
+		}
+		else
+		{
+			double den = dr * dr + di * di;
+			wr = (pr * dr + pi * di) / den;
+			wi = (pi * dr - pr * di) / den;
+		}
+
+		// Repulsion s = sum 1 / (z - zj).
+		double sr = 0, si = 0;
+		for(int j = 0; j < re.length; j++)
+		{
+			if(j == k) continue;
+
+			double er = zr - re[j];
+			double ei = zi - im[j];
+			double en = er * er + ei * ei;
+			sr += er / en;
+			si -= ei / en;
+		}
+
+		// Aberth's correction c = w / (1 - w.s).
+		double qr = 1 - (wr * sr - wi * si);
+		double qi = -(wr * si + wi * sr);
+		double qn = qr * qr + qi * qi;
+		double cr = (wr * qr + wi * qi) / qn;
+		double ci = (wi * qr - wr * qi) / qn;
+
+		if(!Double.isFinite(cr) || !Double.isFinite(ci))
+		{
+			nre[k] = zr;
+			nim[k] = zi;
+			return false;
+		}
+
+		nre[k] = zr - cr;
+		nim[k] = zi - ci;
+
+		double size = Math.hypot(cr, ci);
+		return size <= abstol + reltol * Math.hypot(zr, zi);
+	}
+
+	private static double real(double[] poly, double zr, double zi)
+	{
+		// Only nearly real roots are considered.
+		if(Math.abs(zi) > REAL_TOLERANCE * Math.abs(zr))
+		{
+			return zi;
+		}
+
+		// Keep the imaginary part if the real part alone is a worse root.
+		if(magnitude(poly, zr, 0) <= magnitude(poly, zr, zi))
+		{
+			return 0;
+		}
+
+		return zi;
+	}
+
+	private static double magnitude(double[] poly, double zr, double zi)
+	{
+		double zn = zr * zr + zi * zi;
+
+		// Evaluate the reversed polynomial in 1 / z outside the unit circle.
+		int deg = poly.length - 1;
+		boolean isReversed = zn > 1;
+		double xr = zr, xi = zi;
+		if(isReversed)
+		{
+			xr =  zr / zn;
+			xi = -zi / zn;
+		}
+
+		double pr = poly[isReversed ? 0 : deg], pi = 0;
+		for(int d = deg - 1; d >= 0; d--)
+		{
+			double tr = pr * xr - pi * xi + poly[isReversed ? deg - d : d];
+			pi = pr * xi + pi * xr;
+			pr = tr;
+		}
+
+		// Return the logarithm of |p(z)| = |z|^n.|r(1 / z)|.
+		double log = Math.log(Math.hypot(pr, pi));
+		if(isReversed)
+		{
+			log += deg * Math.log(zn) / 2;
+		}
+
+		return log;
+	}
+
+	private static boolean isDone(boolean[] done)
+	{
+		for(boolean isDone : done)
+		{
+			if(!isDone)
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
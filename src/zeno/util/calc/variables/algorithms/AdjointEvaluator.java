@@ -0,0 +1,104 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.Arrays;
+
+import zeno.util.calc.Variable;
+
+/**
+ * The {@code AdjointEvaluator} class evaluates a {@code Variable} tree with reverse-mode automatic differentiation.
+ * <br> The tree is flattened once into a tape of nodes, which is reused by every evaluation.
+ * Each evaluation records the value and the local partial derivatives of every node on the tape,
+ * and then passes the adjoints back from the root to the arguments. The full gradient costs
+ * about as much as a single evaluation, regardless of the argument count, which suits trees
+ * with many arguments better than a {@link DualEvaluator}.
+ * <br> As with a {@link DualEvaluator}, the gradient holds one partial derivative for each value
+ * {@link Variable#evaluate(double...)} routes, and the evaluator is meant for a single thread.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Automatic_differentiation">Automatic Differentiation</a>
+ * @see Variable
+ */
+public final class AdjointEvaluator
+{
+	private Tape tape;
+	private double[] val, part, adj;
+
+	/**
+	 * Creates a new {@code AdjointEvaluator}.
+	 * 
+	 * @param var  a variable to evaluate
+	 * @throws UnsupportedOperationException  if the tree holds a variable without a derivative rule
+	 * @see Variable
+	 */
+	public AdjointEvaluator(Variable var)
+	{
+		tape = new Tape(var, true);
+		val = new double[tape.size];
+		part = new double[3 * tape.size];
+		adj = new double[tape.size];
+	}
+
+
+	/**
+	 * Evaluates the {@code AdjointEvaluator} for specific values.
+	 * <br> The gradient array needs room for one partial derivative per value.
+	 * 
+	 * @param args  a list of arguments
+	 * @param grad  the output gradient
+	 * @return  the evaluated result
+	 */
+	public double evaluate(double[] args, double[] grad)
+	{
+		int n = args.length;
+		int size = tape.size;
+
+		tape.record(args, val, part);
+		Arrays.fill(grad, 0, n, 0);
+		Arrays.fill(adj, 0);
+		adj[size - 1] = 1;
+
+		for(int k = size - 1; k >= 0; k--)
+		{
+			// Nodes that do not affect the result pass nothing on.
+			double w = adj[k];
+			if(w == 0) continue;
+
+			int code = tape.codes[k];
+			if(code == Tape.CONSTANT)
+			{
+				continue;
+			}
+
+			if(code == Tape.ARGUMENT || code == Tape.LEAF)
+			{
+				grad[tape.slot(k, n)] += part[3 * k] * w;
+				continue;
+			}
+
+			adj[tape.in0[k]] += part[3 * k] * w;
+			if(tape.in1[k] >= 0)
+			{
+				adj[tape.in1[k]] += part[3 * k + 1] * w;
+			}
+
+			if(tape.in2[k] >= 0)
+			{
+				adj[tape.in2[k]] += part[3 * k + 2] * w;
+			}
+		}
+
+		return val[size - 1];
+	}
+
+	/**
+	 * Returns the node count of the {@code AdjointEvaluator}.
+	 * 
+	 * @return  the evaluator's node count
+	 */
+	public int Size()
+	{
+		return tape.size;
+	}
+}
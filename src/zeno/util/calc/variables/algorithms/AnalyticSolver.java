@@ -0,0 +1,249 @@
+package zeno.util.calc.variables.algorithms;
+
+/**
+ * The {@code AnalyticSolver} class finds polynomial roots of degree four or less in closed form.
+ * <br> Cofficients are passed from the highest degree to the lowest, and roots are written
+ * to caller-supplied arrays of real and imaginary parts, which need room for one root per degree.
+ * Nothing is allocated, so the solvers can be called in tight loops.
+ * <br> Cubics are solved with Vite's trigonometric form or Cardano's formula,
+ * and quartics with Ferrari's method. Their roots are then polished with a few Newton steps,
+ * which recovers the precision lost to cancellation when the roots differ widely in size.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Cubic_equation">Cubic Equation</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Quartic_function">Quartic Function</a>
+ * @see RootFinder
+ */
+public final class AnalyticSolver
+{
+	private static final double SQRT3 = Math.sqrt(3);
+	private static final int POLISH_STEPS = 8;
+
+
+	/**
+	 * Finds the roots of a quadratic {@code a.x^2 + b.x + c}.
+	 * 
+	 * @param a  the quadratic cofficient
+	 * @param b  the linear cofficient
+	 * @param c  the constant cofficient
+	 * @param re  the roots' real parts
+	 * @param im  the roots' imaginary parts
+	 * @return  the root count
+	 */
+	public static int quadratic(double a, double b, double c, double[] re, double[] im)
+	{
+		return quadratic(a, b, c, re, im, 0);
+	}
+
+	/**
+	 * Finds the roots of a cubic {@code a.x^3 + b.x^2 + c.x + d}.
+	 * 
+	 * @param a  the cubic cofficient
+	 * @param b  the quadratic cofficient
+	 * @param c  the linear cofficient
+	 * @param d  the constant cofficient
+	 * @param re  the roots' real parts
+	 * @param im  the roots' imaginary parts
+	 * @return  the root count
+	 */
+	public static int cubic(double a, double b, double c, double d, double[] re, double[] im)
+	{
+		if(a == 0)
+		{
+			return quadratic(b, c, d, re, im, 0);
+		}
+
+		double A = b / a, B = c / a, C = d / a;
+		double Q = (A * A - 3 * B) / 9;
+		double R = (2 * A * A * A - 9 * A * B + 27 * C) / 54;
+		double Q3 = Q * Q * Q;
+
+		if(R * R < Q3)
+		{
+			// Three real roots.
+			double theta = Math.acos(R / Math.sqrt(Q3));
+			double sqrt = -2 * Math.sqrt(Q);
+			for(int k = 0; k < 3; k++)
+			{
+				re[k] = sqrt * Math.cos((theta + 2 * Math.PI * (k - 1)) / 3) - A / 3;
+				im[k] = 0;
+				polish(3, A, B, C, 0, re, im, k);
+			}
+
+			return 3;
+		}
+
+		// One real root and a conjugate pair.
+		double S = -Math.copySign(Math.cbrt(Math.abs(R) + Math.sqrt(R * R - Q3)), R);
+		double T = S == 0 ? 0 : Q / S;
+
+		re[0] = S + T - A / 3;
+		im[0] = 0;
+		polish(3, A, B, C, 0, re, im, 0);
+
+		re[1] = -(S + T) / 2 - A / 3;
+		im[1] = SQRT3 / 2 * (S - T);
+		polish(3, A, B, C, 0, re, im, 1);
+		re[2] =  re[1];
+		im[2] = -im[1];
+
+		return 3;
+	}
+
+	/**
+	 * Finds the roots of a quartic {@code a.x^4 + b.x^3 + c.x^2 + d.x + e}.
+	 * 
+	 * @param a  the quartic cofficient
+	 * @param b  the cubic cofficient
+	 * @param c  the quadratic cofficient
+	 * @param d  the linear cofficient
+	 * @param e  the constant cofficient
+	 * @param re  the roots' real parts
+	 * @param im  the roots' imaginary parts
+	 * @return  the root count
+	 */
+	public static int quartic(double a, double b, double c, double d, double e, double[] re, double[] im)
+	{
+		if(a == 0)
+		{
+			return cubic(b, c, d, e, re, im);
+		}
+
+		double A = b / a, B = c / a, C = d / a, D = e / a;
+
+		// Depress the quartic with x = y - A / 4.
+		double A2 = A * A;
+		double p = B - 3 * A2 / 8;
+		double q = C - A * B / 2 + A2 * A / 8;
+		double r = D - A * C / 4 + A2 * B / 16 - 3 * A2 * A2 / 256;
+
+		// Find the largest real root of the resolvent cubic.
+		double m = 0;
+		if(Math.abs(q) > 1e-14 * (1 + Math.abs(p) + Math.abs(r)))
+		{
+			cubic(1, p, p * p / 4 - r, -q * q / 8, re, im);
+			for(int k = 0; k < 3; k++)
+			{
+				if(im[k] == 0 && re[k] > m)
+				{
+					m = re[k];
+				}
+			}
+		}
+
+		if(m > 0)
+		{
+			// Split into two quadratics in y.
+			double s = Math.sqrt(2 * m);
+			quadratic(1,  s, p / 2 + m - q / (2 * s), re, im, 0);
+			quadratic(1, -s, p / 2 + m + q / (2 * s), re, im, 2);
+		}
+		else
+		{
+			// Biquadratic: solve for z = y^2.
+			quadratic(1, p, r, re, im, 0);
+			double zr0 = re[0], zi0 = im[0];
+			double zr1 = re[1], zi1 = im[1];
+			sqrt(zr0, zi0, re, im, 0);
+			sqrt(zr1, zi1, re, im, 2);
+		}
+
+		for(int k = 0; k < 4; k++)
+		{
+			re[k] -= A / 4;
+			polish(4, A, B, C, D, re, im, k);
+		}
+
+		return 4;
+	}
+
+
+	private static int quadratic(double a, double b, double c, double[] re, double[] im, int off)
+	{
+		if(a == 0)
+		{
+			if(b == 0)
+			{
+				return 0;
+			}
+
+			re[off] = -c / b;
+			im[off] = 0;
+			return 1;
+		}
+
+		double disc = b * b - 4 * a * c;
+		if(disc >= 0)
+		{
+			// Avoid cancellation between -b and the root of the discriminant.
+			double q = -(b + Math.copySign(Math.sqrt(disc), b)) / 2;
+			re[off] = q / a;
+			re[off + 1] = q == 0 ? 0 : c / q;
+			im[off] = im[off + 1] = 0;
+			return 2;
+		}
+
+		double sqrt = Math.sqrt(-disc) / (2 * Math.abs(a));
+		re[off] = re[off + 1] = -b / (2 * a);
+		im[off] = -sqrt;
+		im[off + 1] = sqrt;
+		return 2;
+	}
+
+	private static void sqrt(double zr, double zi, double[] re, double[] im, int off)
+	{
+		// Principal square root of zr + zi.i and its negation.
+		double mod = Math.hypot(zr, zi);
+		double sr = Math.sqrt((mod + zr) / 2);
+		double si = Math.copySign(Math.sqrt((mod - zr) / 2), zi);
+
+		re[off] = sr;
+		im[off] = si;
+		re[off + 1] = -sr;
+		im[off + 1] = -si;
+	}
+
+	private static void polish(int deg, double A, double B, double C, double D, double[] re, double[] im, int k)
+	{
+		double xr = re[k], xi = im[k];
+		double fn = Double.POSITIVE_INFINITY;
+		for(int i = 0; i < POLISH_STEPS; i++)
+		{
+			// Evaluate the monic polynomial and its derivative with Horner's method.
+			double pr = 1, pi = 0, dr = 0, di = 0;
+			for(int d = 1; d <= deg; d++)
+			{
+				double tr = dr * xr - di * xi + pr;
+				di = dr * xi + di * xr + pi;
+				dr = tr;
+
+				double c = d == 1 ? A : d == 2 ? B : d == 3 ? C : D;
+				tr = pr * xr - pi * xi + c;
+				pi = pr * xi + pi * xr;
+				pr = tr;
+			}
+
+			// Keep the last step only if it reduced the residual.
+			double f = Math.hypot(pr, pi);
+			if(f >= fn)
+			{
+				return;
+			}
+
+			re[k] = xr;
+			im[k] = xi;
+			fn = f;
+
+			double den = dr * dr + di * di;
+			if(f == 0 || den == 0)
+			{
+				return;
+			}
+
+			xr -= (pr * dr + pi * di) / den;
+			xi -= (pi * dr - pr * di) / den;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Argument;
+
+/**
+ * The {@code BoundFunction} class evaluates a {@code Variable} tree with arguments bound by name.
+ * <br> Each {@code Argument} is resolved by its name to a fixed slot in one input vector, so an argument
+ * that appears several times in the tree reads the same slot, and the slot count does not depend
+ * on the shape of the tree. Polynomials, rationals and other leaves without a name read the first slot.
+ * <br> The tree is interned and flattened once while binding, so each evaluation computes
+ * every distinct node once, without routing the input through the tree.
+ * <br> A {@code BoundFunction} is not safe for use by multiple threads, but each thread
+ * can use its own {@link #copy()}, which shares the flattened tree.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see Argument
+ * @see Variable
+ */
+public final class BoundFunction
+{
+	/**
+	 * Binds the arguments of a {@code Variable} to slots.
+	 * <br> If no names are given, each argument is bound to the next slot
+	 * in the order in which it first appears in the tree.
+	 * 
+	 * @param var  a variable to bind
+	 * @param names  the argument name of each slot
+	 * @return  the bound function
+	 * @throws IllegalArgumentException  if an argument is not bound, or bound twice
+	 * @see Variable
+	 */
+	public static BoundFunction bind(Variable var, String... names)
+	{
+		boolean isFixed = names.length > 0;
+		List<String> slots = new ArrayList<>(Arrays.asList(names));
+		Map<String, Integer> ids = new HashMap<>();
+		for(int i = 0; i < names.length; i++)
+		{
+			if(ids.put(names[i], i) != null)
+			{
+				throw new IllegalArgumentException("The argument " + names[i] + " is bound twice.");
+			}
+		}
+
+		ToIntFunction<Argument> binder = arg ->
+		{
+			String name = arg.toString();
+			Integer slot = ids.get(name);
+			if(slot != null)
+			{
+				return slot;
+			}
+
+			if(isFixed)
+			{
+				throw new IllegalArgumentException("The argument " + name + " is not bound.");
+			}
+
+			ids.put(name, slots.size());
+			slots.add(name);
+			return slots.size() - 1;
+		};
+
+		Tape tape = new Tape(new Interner().intern(var), binder);
+		return new BoundFunction(tape, slots.toArray(new String[slots.size()]));
+	}
+
+
+	private Tape tape;
+	private String[] names;
+	private double[] val;
+
+	private BoundFunction(Tape tape, String[] names)
+	{
+		this.tape = tape;
+		this.names = names;
+		val = new double[tape.size];
+	}
+
+
+	/**
+	 * Evaluates the {@code BoundFunction} for a vector of slots.
+	 * <br> The vector needs room for one value per slot,
+	 * and for at least one value if the tree holds leaves without a name.
+	 * 
+	 * @param slots  a vector of slot values
+	 * @return  the evaluated result
+	 */
+	public double apply(double[] slots)
+	{
+		tape.evaluate(slots, val);
+		return val[tape.size - 1];
+	}
+
+	/**
+	 * Returns a copy of the {@code BoundFunction}.
+	 * <br> The copy shares the flattened tree, but has its own buffers.
+	 * 
+	 * @return  a bound function copy
+	 */
+	public BoundFunction copy()
+	{
+		return new BoundFunction(tape, names);
+	}
+
+	/**
+	 * Returns the slot of an argument in the {@code BoundFunction}.
+	 * 
+	 * @param name  an argument name
+	 * @return  the argument's slot, or -1 if it is not bound
+	 */
+	public int Slot(String name)
+	{
+		for(int i = 0; i < names.length; i++)
+		{
+			if(names[i].equals(name))
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the argument names of the {@code BoundFunction}.
+	 * 
+	 * @return  the argument name of each slot
+	 */
+	public String[] Names()
+	{
+		return names.clone();
+	}
+
+	/**
+	 * Returns the slot count of the {@code BoundFunction}.
+	 * 
+	 * @return  the function's slot count
+	 */
+	public int Size()
+	{
+		return names.length;
+	}
+}
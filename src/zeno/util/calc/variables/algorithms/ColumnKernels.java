@@ -0,0 +1,122 @@
+package zeno.util.calc.variables.algorithms;
+
+/**
+ * The {@code ColumnKernels} interface defines the column operations of a {@link VectorEvaluator}.
+ * <br> Each operation reads whole columns and writes its result to an output column,
+ * which may be the same array as one of its operand columns.
+ *
+ * @since Oct 17, 2026
+ * @author Zeno
+ *
+ * @see VectorEvaluator
+ */
+interface ColumnKernels
+{
+	/**
+	 * Adds two columns.
+	 *
+	 * @param a  the first operand column
+	 * @param b  the second operand column
+	 * @param out  the output column
+	 */
+	public abstract void add(double[] a, double[] b, double[] out);
+
+	/**
+	 * Subtracts two columns.
+	 *
+	 * @param a  the first operand column
+	 * @param b  the second operand column
+	 * @param out  the output column
+	 */
+	public abstract void subtract(double[] a, double[] b, double[] out);
+
+	/**
+	 * Multiplies two columns.
+	 *
+	 * @param a  the first operand column
+	 * @param b  the second operand column
+	 * @param out  the output column
+	 */
+	public abstract void multiply(double[] a, double[] b, double[] out);
+
+	/**
+	 * Divides two columns.
+	 *
+	 * @param a  the first operand column
+	 * @param b  the second operand column
+	 * @param out  the output column
+	 */
+	public abstract void divide(double[] a, double[] b, double[] out);
+
+	/**
+	 * Calculates the minimum of two columns.
+	 *
+	 * @param a  the first operand column
+	 * @param b  the second operand column
+	 * @param out  the output column
+	 */
+	public abstract void min(double[] a, double[] b, double[] out);
+
+	/**
+	 * Calculates the maximum of two columns.
+	 *
+	 * @param a  the first operand column
+	 * @param b  the second operand column
+	 * @param out  the output column
+	 */
+	public abstract void max(double[] a, double[] b, double[] out);
+
+	/**
+	 * Clamps a column between two bound columns.
+	 *
+	 * @param a  the operand column
+	 * @param min  the minimum column
+	 * @param max  the maximum column
+	 * @param out  the output column
+	 */
+	public abstract void clamp(double[] a, double[] min, double[] max, double[] out);
+
+
+	/**
+	 * Calculates the square root of a column.
+	 *
+	 * @param a  the operand column
+	 * @param out  the output column
+	 */
+	public abstract void sqrt(double[] a, double[] out);
+
+	/**
+	 * Calculates the absolute value of a column.
+	 *
+	 * @param a  the operand column
+	 * @param out  the output column
+	 */
+	public abstract void abs(double[] a, double[] out);
+
+	/**
+	 * Rounds a column down.
+	 *
+	 * @param a  the operand column
+	 * @param out  the output column
+	 */
+	public abstract void floor(double[] a, double[] out);
+
+	/**
+	 * Rounds a column up.
+	 *
+	 * @param a  the operand column
+	 * @param out  the output column
+	 */
+	public abstract void ceil(double[] a, double[] out);
+
+
+	/**
+	 * Evaluates a polynomial over a column with Horner's method.
+	 * <br> The output column must not be the same array as the operand column.
+	 *
+	 * @param coef  the polynomial's cofficients, from lowest to highest degree
+	 * @param a  the operand column
+	 * @param out  the output column
+	 */
+	public abstract void horner(double[] coef, double[] a, double[] out);
+}
@@ -0,0 +1,383 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code CompanionSolver} class finds polynomial roots as eigenvalues of a companion matrix.
+ * <br> The companion matrix is already in upper Hessenberg form. It is balanced
+ * to reduce its norm, and its eigenvalues are found with the shifted QR algorithm.
+ * <br> A solver keeps its matrix buffer between calls, and grows it as needed.
+ * Each thread uses its own solver, so repeated calls do not allocate a matrix.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Companion_matrix">Companion Matrix</a>
+ * @see RootFinder
+ */
+final class CompanionSolver
+{
+	private static final ThreadLocal<CompanionSolver> LOCAL = ThreadLocal.withInitial(CompanionSolver::new);
+	private static final double RADIX = 2;
+
+
+	/**
+	 * Returns the {@code CompanionSolver} of the current thread.
+	 * 
+	 * @return  a thread local solver
+	 */
+	public static CompanionSolver local()
+	{
+		return LOCAL.get();
+	}
+
+
+	private double[] mat, wr, wi;
+
+	private CompanionSolver()
+	{
+		mat = new double[0];
+		wr = new double[0];
+		wi = new double[0];
+	}
+
+
+	/**
+	 * Finds the roots of a polynomial.
+	 * 
+	 * @param coef  the polynomial's cofficients, from lowest to highest degree
+	 * @param iterations  a max iteration count for each root
+	 * @return  the polynomial's roots
+	 */
+	public List<Root> solve(double[] coef, int iterations)
+	{
+		List<Root> roots = new ArrayList<>();
+
+		// Trim the leading zero cofficients.
+		int max = coef.length - 1;
+		while(max > 0 && coef[max] == 0)
+		{
+			max--;
+		}
+
+		// Divide out the roots at zero.
+		int min = 0;
+		while(min < max && coef[min] == 0)
+		{
+			roots.add(new Root(0, 0));
+			min++;
+		}
+
+		int n = max - min;
+		if(n < 1)
+		{
+			return roots;
+		}
+
+
+		// Prepare the buffers.
+		if(wr.length < n)
+		{
+			mat = new double[n * n];
+			wr = new double[n];
+			wi = new double[n];
+		}
+
+		// Fill the companion matrix.
+		for(int i = 0; i < n * n; i++)
+		{
+			mat[i] = 0;
+		}
+
+		for(int j = 0; j < n; j++)
+		{
+			mat[j] = -coef[max - 1 - j] / coef[max];
+		}
+
+		for(int i = 1; i < n; i++)
+		{
+			mat[i * n + i - 1] = 1;
+		}
+
+
+		balance(n);
+		eigenvalues(n, iterations);
+		for(int i = 0; i < n; i++)
+		{
+			roots.add(new Root(wr[i], wi[i]));
+		}
+
+		return roots;
+	}
+
+
+	private void balance(int n)
+	{
+		double[] a = mat;
+
+		boolean isDone = false;
+		while(!isDone)
+		{
+			isDone = true;
+			for(int i = 0; i < n; i++)
+			{
+				// Compare the norms of row and column i.
+				double r = 0, c = 0;
+				for(int j = 0; j < n; j++)
+				{
+					if(j != i)
+					{
+						c += Math.abs(a[j * n + i]);
+						r += Math.abs(a[i * n + j]);
+					}
+				}
+
+				if(c == 0 || r == 0)
+				{
+					continue;
+				}
+
+				// Find the power of the radix that balances them.
+				double f = 1, s = c + r;
+				double g = r / RADIX;
+				while(c < g)
+				{
+					f *= RADIX;
+					c *= RADIX * RADIX;
+				}
+
+				g = r * RADIX;
+				while(c > g)
+				{
+					f /= RADIX;
+					c /= RADIX * RADIX;
+				}
+
+				if((c + r) / f < 0.95 * s)
+				{
+					isDone = false;
+					for(int j = 0; j < n; j++)
+					{
+						a[i * n + j] /= f;
+						a[j * n + i] *= f;
+					}
+				}
+			}
+		}
+	}
+
+	private void eigenvalues(int n, int iterations)
+	{
+		double[] a = mat;
+
+		double norm = 0;
+		for(int i = 0; i < n; i++)
+		{
+			for(int j = Math.max(i - 1, 0); j < n; j++)
+			{
+				norm += Math.abs(a[i * n + j]);
+			}
+		}
+
+
+		int nn = n - 1, l = 0;
+		double p = 0, q = 0, r = 0, s, t = 0, w, x, y, z;
+		while(nn >= 0)
+		{
+			int its = 0;
+			do
+			{
+				// Look for a single small subdiagonal element.
+				for(l = nn; l >= 1; l--)
+				{
+					s = Math.abs(a[(l - 1) * n + l - 1]) + Math.abs(a[l * n + l]);
+					if(s == 0) s = norm;
+					if(Math.abs(a[l * n + l - 1]) + s == s)
+					{
+						a[l * n + l - 1] = 0;
+						break;
+					}
+				}
+
+				x = a[nn * n + nn];
+
+				// One root found.
+				if(l == nn)
+				{
+					wr[nn] = x + t;
+					wi[nn] = 0;
+					nn--;
+					continue;
+				}
+
+				y = a[(nn - 1) * n + nn - 1];
+				w = a[nn * n + nn - 1] * a[(nn - 1) * n + nn];
+
+				// Two roots found.
+				if(l == nn - 1)
+				{
+					p = (y - x) / 2;
+					q = p * p + w;
+					z = Math.sqrt(Math.abs(q));
+					x += t;
+					if(q >= 0)
+					{
+						z = p + Math.copySign(z, p);
+						wr[nn - 1] = wr[nn] = x + z;
+						if(z != 0) wr[nn] = x - w / z;
+						wi[nn - 1] = wi[nn] = 0;
+					}
+					else
+					{
+						wr[nn - 1] = wr[nn] = x + p;
+						wi[nn - 1] = -z;
+						wi[nn] = z;
+					}
+
+					nn -= 2;
+					continue;
+				}
+
+				// No convergence.
+				if(its == iterations)
+				{
+					for(int i = 0; i <= nn; i++)
+					{
+						wr[i] = Double.NaN;
+						wi[i] = Double.NaN;
+					}
+
+					return;
+				}
+
+				// Form an exceptional shift.
+				if(its == 10 || its == 20)
+				{
+					t += x;
+					for(int i = 0; i <= nn; i++)
+					{
+						a[i * n + i] -= x;
+					}
+
+					s = Math.abs(a[nn * n + nn - 1]) + Math.abs(a[(nn - 1) * n + nn - 2]);
+					y = x = 0.75 * s;
+					w = -0.4375 * s * s;
+				}
+
+				its++;
+
+
+				// Look for two consecutive small subdiagonal elements.
+				int m;
+				for(m = nn - 2; m >= l; m--)
+				{
+					z = a[m * n + m];
+					r = x - z;
+					s = y - z;
+					p = (r * s - w) / a[(m + 1) * n + m] + a[m * n + m + 1];
+					q = a[(m + 1) * n + m + 1] - z - r - s;
+					r = a[(m + 2) * n + m + 1];
+					s = Math.abs(p) + Math.abs(q) + Math.abs(r);
+					p /= s;
+					q /= s;
+					r /= s;
+
+					if(m == l) break;
+
+					double u = Math.abs(a[m * n + m - 1]) * (Math.abs(q) + Math.abs(r));
+					double v = Math.abs(p) * (Math.abs(a[(m - 1) * n + m - 1]) + Math.abs(z) + Math.abs(a[(m + 1) * n + m + 1]));
+					if(u + v == v) break;
+				}
+
+				for(int i = m + 2; i <= nn; i++)
+				{
+					a[i * n + i - 2] = 0;
+					if(i != m + 2)
+					{
+						a[i * n + i - 3] = 0;
+					}
+				}
+
+
+				// Perform a double QR step on rows l to nn and columns m to nn.
+				for(int k = m; k <= nn - 1; k++)
+				{
+					if(k != m)
+					{
+						p = a[k * n + k - 1];
+						q = a[(k + 1) * n + k - 1];
+						r = 0;
+						if(k != nn - 1)
+						{
+							r = a[(k + 2) * n + k - 1];
+						}
+
+						x = Math.abs(p) + Math.abs(q) + Math.abs(r);
+						if(x != 0)
+						{
+							p /= x;
+							q /= x;
+							r /= x;
+						}
+					}
+
+					s = Math.copySign(Math.sqrt(p * p + q * q + r * r), p);
+					if(s == 0)
+					{
+						continue;
+					}
+
+					if(k == m)
+					{
+						if(l != m)
+						{
+							a[k * n + k - 1] = -a[k * n + k - 1];
+						}
+					}
+					else
+					{
+						a[k * n + k - 1] = -s * x;
+					}
+
+					p += s;
+					x = p / s;
+					y = q / s;
+					z = r / s;
+					q /= p;
+					r /= p;
+
+					// Modify the rows.
+					for(int j = k; j <= nn; j++)
+					{
+						p = a[k * n + j] + q * a[(k + 1) * n + j];
+						if(k != nn - 1)
+						{
+							p += r * a[(k + 2) * n + j];
+							a[(k + 2) * n + j] -= p * z;
+						}
+
+						a[(k + 1) * n + j] -= p * y;
+						a[k * n + j] -= p * x;
+					}
+
+					// Modify the columns.
+					int mmin = Math.min(nn, k + 3);
+					for(int i = l; i <= mmin; i++)
+					{
+						p = x * a[i * n + k] + y * a[i * n + k + 1];
+						if(k != nn - 1)
+						{
+							p += z * a[i * n + k + 2];
+							a[i * n + k + 2] -= p * r;
+						}
+
+						a[i * n + k + 1] -= p * q;
+						a[i * n + k] -= p;
+					}
+				}
+			}
+			while(l < nn - 1);
+		}
+	}
+}
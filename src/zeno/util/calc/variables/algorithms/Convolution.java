@@ -0,0 +1,266 @@
+package zeno.util.calc.variables.algorithms;
+
+/**
+ * The {@code Convolution} class multiplies dense cofficient arrays.
+ * <br> The method is chosen by the length of the shortest operand.
+ * Short operands are multiplied with the schoolbook method, medium operands
+ * with Karatsuba's method, and long operands with a fast Fourier transform.
+ * <br> The schoolbook method has the usual componentwise error bound: each result
+ * cofficient {@code c[k]} is off by at most {@code n.u.sum(|a[i].b[k-i]|)}
+ * for unit roundoff {@code u} and shortest length {@code n}.
+ * Karatsuba's method and the transform only bound the error normwise:
+ * each cofficient is off by at most a small multiple of {@code log2(n).u.|a|.|b|},
+ * using the euclidean norms of both operands. The transform packs both operands into a single
+ * complex signal, after scaling one of them by a power of two to the magnitude of the other,
+ * so the bound also holds for operands of widely different magnitudes. Cofficients much smaller than
+ * that bound, such as those of products of factors with roots of widely
+ * different magnitudes, can lose all of their relative precision on those paths.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ */
+public final class Convolution
+{
+	private static final int KARATSUBA_LENGTH = 32;
+	private static final int FFT_LENGTH = 1024;
+
+
+	/**
+	 * Multiplies two cofficient arrays.
+	 * <br> Both arrays hold their cofficients from lowest to highest degree.
+	 * 
+	 * @param a  the first cofficient array
+	 * @param b  the second cofficient array
+	 * @return  the product's cofficients
+	 */
+	public static double[] multiply(double[] a, double[] b)
+	{
+		if(a.length < b.length)
+		{
+			return multiply(b, a);
+		}
+
+		double[] result = new double[a.length + b.length - 1];
+		if(b.length < KARATSUBA_LENGTH)
+		{
+			schoolbook(a, 0, a.length, b, 0, b.length, result, 0);
+			return result;
+		}
+
+		if(b.length >= FFT_LENGTH)
+		{
+			fft(a, b, result);
+			return result;
+		}
+
+
+		// Split the longest operand in blocks of the shortest length.
+		int n = b.length;
+		double[] block = new double[n];
+		double[] part = new double[2 * n - 1];
+		for(int off = 0; off < a.length; off += n)
+		{
+			int len = Math.min(n, a.length - off);
+			System.arraycopy(a, off, block, 0, len);
+			for(int i = len; i < n; i++)
+			{
+				block[i] = 0;
+			}
+
+			karatsuba(block, 0, b, 0, n, part, 0);
+			int end = Math.min(part.length, result.length - off);
+			for(int i = 0; i < end; i++)
+			{
+				result[off + i] += part[i];
+			}
+		}
+
+		return result;
+	}
+
+
+	private static void schoolbook(double[] a, int ao, int an, double[] b, int bo, int bn, double[] out, int oo)
+	{
+		for(int i = 0; i < an + bn - 1; i++)
+		{
+			out[oo + i] = 0;
+		}
+
+		for(int i = 0; i < an; i++)
+		{
+			double val = a[ao + i];
+			if(val == 0) continue;
+
+			for(int j = 0; j < bn; j++)
+			{
+				out[oo + i + j] += val * b[bo + j];
+			}
+		}
+	}
+
+	private static void karatsuba(double[] a, int ao, double[] b, int bo, int n, double[] out, int oo)
+	{
+		if(n < KARATSUBA_LENGTH)
+		{
+			schoolbook(a, ao, n, b, bo, n, out, oo);
+			return;
+		}
+
+		// Split both operands in a low and a high half.
+		int h = n / 2;
+		int k = n - h;
+
+		karatsuba(a, ao, b, bo, h, out, oo);
+		out[oo + 2 * h - 1] = 0;
+		karatsuba(a, ao + h, b, bo + h, k, out, oo + 2 * h);
+
+		// Multiply the sums of both halves.
+		double[] sa = new double[k];
+		double[] sb = new double[k];
+		for(int i = 0; i < k; i++)
+		{
+			sa[i] = a[ao + h + i];
+			sb[i] = b[bo + h + i];
+		}
+
+		for(int i = 0; i < h; i++)
+		{
+			sa[i] += a[ao + i];
+			sb[i] += b[bo + i];
+		}
+
+		double[] mid = new double[2 * k - 1];
+		karatsuba(sa, 0, sb, 0, k, mid, 0);
+
+		// Subtract the outer products from the middle product.
+		for(int i = 0; i < 2 * h - 1; i++)
+		{
+			mid[i] -= out[oo + i];
+		}
+
+		for(int i = 0; i < 2 * k - 1; i++)
+		{
+			mid[i] -= out[oo + 2 * h + i];
+		}
+
+		for(int i = 0; i < 2 * k - 1; i++)
+		{
+			out[oo + h + i] += mid[i];
+		}
+	}
+
+	private static void fft(double[] a, double[] b, double[] out)
+	{
+		int size = Integer.highestOneBit(out.length - 1) << 1;
+
+		double amax = 0, bmax = 0;
+		for(int i = 0; i < a.length; i++)
+		{
+			amax = Math.max(amax, Math.abs(a[i]));
+		}
+
+		for(int i = 0; i < b.length; i++)
+		{
+			bmax = Math.max(bmax, Math.abs(b[i]));
+		}
+
+		// A zero operand has a zero product.
+		if(amax == 0 || bmax == 0)
+		{
+			return;
+		}
+
+		// Scale the second operand by a power of two to
+		// the magnitude of the first, which is exact.
+		int scale = Math.getExponent(amax) - Math.getExponent(bmax);
+
+		// Pack both real operands into a single complex signal.
+		double[] re = new double[size];
+		double[] im = new double[size];
+		System.arraycopy(a, 0, re, 0, a.length);
+		for(int i = 0; i < b.length; i++)
+		{
+			im[i] = Math.scalb(b[i], scale);
+		}
+
+		double[] cos = new double[size / 2];
+		double[] sin = new double[size / 2];
+		for(int i = 0; i < size / 2; i++)
+		{
+			double angle = 2 * Math.PI * i / size;
+			cos[i] = Math.cos(angle);
+			sin[i] = Math.sin(angle);
+		}
+
+		transform(re, im, cos, sin, false);
+
+		// Recover the product spectrum from the packed spectrum.
+		double[] pre = new double[size];
+		double[] pim = new double[size];
+		for(int k = 0; k < size; k++)
+		{
+			int j = (size - k) & (size - 1);
+
+			double zr = re[k], zi = im[k];
+			double wr = re[j], wi = -im[j];
+
+			double dr = (zr * zr - zi * zi) - (wr * wr - wi * wi);
+			double di = 2 * zr * zi - 2 * wr * wi;
+
+			pre[k] = di / 4;
+			pim[k] = -dr / 4;
+		}
+
+		transform(pre, pim, cos, sin, true);
+		for(int i = 0; i < out.length; i++)
+		{
+			out[i] = Math.scalb(pre[i] / size, -scale);
+		}
+	}
+
+	private static void transform(double[] re, double[] im, double[] cos, double[] sin, boolean inverse)
+	{
+		int size = re.length;
+
+		// Reorder the signal in bit-reversed order.
+		for(int i = 1, j = 0; i < size; i++)
+		{
+			int bit = size >> 1;
+			for(; (j & bit) != 0; bit >>= 1)
+			{
+				j ^= bit;
+			}
+
+			j ^= bit;
+			if(i < j)
+			{
+				double tr = re[i]; re[i] = re[j]; re[j] = tr;
+				double ti = im[i]; im[i] = im[j]; im[j] = ti;
+			}
+		}
+
+		// Combine the butterflies of each level.
+		for(int len = 2; len <= size; len <<= 1)
+		{
+			int half = len >> 1;
+			int step = size / len;
+			for(int i = 0; i < size; i += len)
+			{
+				for(int j = 0; j < half; j++)
+				{
+					double wr = cos[j * step];
+					double wi = inverse ? sin[j * step] : -sin[j * step];
+
+					int p = i + j, q = i + j + half;
+					double xr = re[q] * wr - im[q] * wi;
+					double xi = re[q] * wi + im[q] * wr;
+
+					re[q] = re[p] - xr;
+					im[q] = im[p] - xi;
+					re[p] += xr;
+					im[p] += xi;
+				}
+			}
+		}
+	}
+}
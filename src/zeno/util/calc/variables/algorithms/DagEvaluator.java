@@ -0,0 +1,94 @@
+package zeno.util.calc.variables.algorithms;
+
+import zeno.util.calc.Variable;
+
+/**
+ * The {@code DagEvaluator} class evaluates a {@code Variable} tree with common subexpression elimination.
+ * <br> The tree is interned first, so identical subtrees become a single shared node. The interned tree
+ * is then flattened once into a tape of nodes, with every operand before its operator and every
+ * shared node stored once. Each evaluation computes the nodes in order, so a subtree that
+ * appears many times in the original tree is evaluated once per call.
+ * Its result matches {@link Variable#evaluate(double...)} for the same values.
+ * <br> Operands of the root that receive different values can not share their subtrees.
+ * A single value reaches every operand, so it is evaluated on a second tape
+ * that shares subtrees between the operands of the root as well.
+ * <br> The node values are stored in a buffer owned by the evaluator, which makes it unsafe to share between threads.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Common_subexpression_elimination">Common Subexpression Elimination</a>
+ * @see Interner
+ * @see Variable
+ */
+public final class DagEvaluator
+{
+	private Tape tape, single;
+	private double[] val;
+
+	/**
+	 * Creates a new {@code DagEvaluator}.
+	 * 
+	 * @param var  a variable to evaluate
+	 * @throws UnsupportedOperationException  if the root is a leaf that can not be flattened
+	 * @see Variable
+	 */
+	public DagEvaluator(Variable var)
+	{
+		this(var, new Interner());
+	}
+
+	/**
+	 * Creates a new {@code DagEvaluator}.
+	 * <br> Sharing an {@code Interner} between evaluators
+	 * lets their trees share nodes in memory.
+	 * 
+	 * @param var  a variable to evaluate
+	 * @param interner  an interner to share nodes with
+	 * @throws UnsupportedOperationException  if the root is a leaf that can not be flattened
+	 * @see Interner
+	 * @see Variable
+	 */
+	public DagEvaluator(Variable var, Interner interner)
+	{
+		Variable node = interner.intern(var);
+		tape = new Tape(node);
+		single = tape;
+		for(int k = 0; k < tape.size; k++)
+		{
+			// Binding every argument to the first slot passes a single value on to every node.
+			if(tape.slots[k] > 0)
+			{
+				single = new Tape(node, arg -> 0);
+				break;
+			}
+		}
+
+		val = new double[tape.size];
+	}
+
+
+	/**
+	 * Evaluates the {@code DagEvaluator} for specific values.
+	 * 
+	 * @param args  a list of arguments
+	 * @return  the evaluated result
+	 */
+	public double evaluate(double... args)
+	{
+		Tape next = args.length == 1 ? single : tape;
+		next.evaluate(args, val);
+		return val[next.size - 1];
+	}
+
+	/**
+	 * Returns the node count of the {@code DagEvaluator}.
+	 * <br> This counts the nodes evaluated for more than one value.
+	 * 
+	 * @return  the evaluator's node count
+	 */
+	public int Size()
+	{
+		return tape.size;
+	}
+}
@@ -0,0 +1,682 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import zeno.util.calc.Functions;
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Argument;
+import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.Operator;
+import zeno.util.calc.variables.functions.Constant;
+import zeno.util.calc.variables.functions.Polynomial;
+import zeno.util.calc.variables.functions.Rational;
+
+/**
+ * The {@code Differentiator} class computes symbolic derivatives of a {@code Variable} tree.
+ * <br> Derivatives are taken with respect to an argument slot, the same slots
+ * {@link Variable#evaluate(double...)} routes its values to. The leaves of a slot are differentiated
+ * together, and the leaves of any other slot are held constant. An {@code Argument} selects
+ * the slot of the root operand it appears in.
+ * <br> A tree that reads a single slot is differentiated by walking it once and replacing
+ * each operator by its derivative rule. Polynomials and rationals are differentiated in closed form.
+ * The root of a tree that reads several slots is differentiated with respect to the value of
+ * each operand instead, and the result is a {@link Substitution} that routes those values
+ * the same way the original tree does. Substitutions are differentiated the same way,
+ * so every derivative can be differentiated again.
+ * <br> The derivative is simplified while it is built: constant operands are folded,
+ * and zero and unit operands of arithmetic are left out. Subtrees of the original
+ * tree are shared by the derivative instead of copied.
+ * <br> Rounding and sign operators are piecewise constant, and have a derivative of zero.
+ * Extremes and absolute values have the derivative of the operand they select.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Differentiation_rules">Differentiation Rules</a>
+ * @see Variable
+ */
+public final class Differentiator
+{
+	private static final Constant ZERO = Constant.from(0);
+	private static final Constant ONE = Constant.from(1);
+
+
+	/**
+	 * Differentiates a {@code Variable} with respect to an {@code Argument}.
+	 * <br> The argument selects the slots of the root operands it appears in. If it appears
+	 * in more than one slot, the derivative is the sum of the derivatives for each of them,
+	 * as if those slots were given the same value. A tree without any argument has
+	 * a single slot, which every argument selects.
+	 * 
+	 * @param var  a variable to differentiate
+	 * @param arg  the argument to differentiate for
+	 * @return  the variable's derivative
+	 * @throws UnsupportedOperationException  if the tree holds a variable without a derivative rule
+	 * @see Argument
+	 */
+	public static Variable derive(Variable var, Argument arg)
+	{
+		Substitution sub = routed(var);
+		if(sub == null)
+		{
+			if(contains(var, arg.toString()) || !contains(var, null))
+			{
+				return derive(var, 0);
+			}
+
+			return ZERO;
+		}
+
+
+		Variable[] vars = sub.Operands();
+		int[] slots = sub.Slots();
+
+		boolean[] isSelected = selection(slots);
+		for(int i = 0; i < vars.length; i++)
+		{
+			if(contains(vars[i], arg.toString()))
+			{
+				isSelected[slots[i]] = true;
+			}
+		}
+
+		return derive(sub, isSelected);
+	}
+
+	/**
+	 * Differentiates a {@code Variable} with respect to an argument slot.
+	 * <br> Slots past the operands of the root have a derivative of zero.
+	 * 
+	 * @param var  a variable to differentiate
+	 * @param slot  the slot to differentiate for
+	 * @return  the variable's derivative
+	 * @throws IllegalArgumentException  if the slot is negative
+	 * @throws UnsupportedOperationException  if the tree holds a variable without a derivative rule
+	 */
+	public static Variable derive(Variable var, int slot)
+	{
+		if(slot < 0)
+		{
+			throw new IllegalArgumentException("The slot " + slot + " is negative.");
+		}
+
+		Substitution sub = routed(var);
+		if(sub == null)
+		{
+			if(slot > 0)
+			{
+				return ZERO;
+			}
+
+			// Every leaf reads the first slot.
+			Argument u = Argument.from("u0");
+			return substitute(u, new Argument[]{u}, new Variable[]{differentiate(var, null)}, new int[1]);
+		}
+
+
+		boolean[] isSelected = selection(sub.Slots());
+		if(slot < isSelected.length)
+		{
+			isSelected[slot] = true;
+		}
+
+		return derive(sub, isSelected);
+	}
+
+
+	/**
+	 * Substitutes the operands of a {@code Substitution} that can be inlined.
+	 * <br> Constant operands are folded into the body, and unused operands are left out.
+	 * If the remaining operands all read
+	 * the first slot, and the body with its operands inlined reads nothing else,
+	 * that tree is returned instead of a substitution.
+	 * 
+	 * @param body  the substitution's body
+	 * @param params  the parameters of the body
+	 * @param vars  the operand of each parameter
+	 * @param slots  the argument slot of each operand
+	 * @return  the substituted variable
+	 */
+	static Variable substitute(Variable body, Argument[] params, Variable[] vars, int[] slots)
+	{
+		Map<Variable, Variable> map = new IdentityHashMap<>();
+		Map<Variable, Variable> inline = new IdentityHashMap<>();
+
+		int count = 0;
+		boolean isFirst = true;
+		Argument[] args = new Argument[params.length];
+		for(int i = 0; i < params.length; i++)
+		{
+			// Unused parameters are left out.
+			if(!contains(body, params[i].toString()))
+			{
+				continue;
+			}
+
+			if(vars[i] instanceof Constant)
+			{
+				map.put(params[i], vars[i]);
+				continue;
+			}
+
+			// Name the remaining parameters in order.
+			args[count] = Argument.from("u" + count);
+			map.put(params[i], args[count]);
+			inline.put(args[count], vars[i]);
+			isFirst &= slots[i] == 0;
+			vars[count] = vars[i];
+			slots[count++] = slots[i];
+		}
+
+		body = replace(body, map);
+		if(count == 0)
+		{
+			return body;
+		}
+
+		if(isFirst)
+		{
+			Variable tree = replace(body, inline);
+			if(!isRouted(tree) || isFirst(tree))
+			{
+				return tree;
+			}
+		}
+
+		return new Substitution(body,
+			Arrays.copyOf(args, count),
+			Arrays.copyOf(vars, count),
+			Arrays.copyOf(slots, count));
+	}
+
+
+	private static Substitution routed(Variable var)
+	{
+		if(var instanceof Substitution)
+		{
+			return (Substitution) var;
+		}
+
+		if(!isRouted(var) || isFirst(var))
+		{
+			return null;
+		}
+
+		// Stand in for the value of each operand.
+		Function func = (Function) var;
+		Variable[] vars = func.Operands();
+		Argument[] params = new Argument[vars.length];
+		int[] slots = new int[vars.length];
+		for(int i = 0; i < vars.length; i++)
+		{
+			params[i] = Argument.from("u" + i);
+			slots[i] = i;
+		}
+
+		return new Substitution(Simplifier.rebuild(func.Operator(), params), params, vars, slots);
+	}
+
+	private static Variable derive(Substitution sub, boolean[] isSelected)
+	{
+		Variable body = sub.Body();
+		Argument[] params = sub.Parameters();
+		Variable[] vars = sub.Operands();
+		int[] slots = sub.Slots();
+
+		int count = params.length;
+		Argument[] nargs = Arrays.copyOf(params, 2 * count);
+		Variable[] nvars = Arrays.copyOf(vars, 2 * count);
+		int[] nslots = Arrays.copyOf(slots, 2 * count);
+
+		// The derivative of each operand is a new parameter in the same slot.
+		Variable result = ZERO;
+		for(int i = 0; i < params.length; i++)
+		{
+			// Without a selection, every slot is differentiated.
+			if(isSelected != null && !isSelected[slots[i]])
+			{
+				continue;
+			}
+
+			Variable du = differentiate(vars[i], null);
+			Variable dop = differentiate(body, params[i]);
+			if(isZero(du) || isZero(dop))
+			{
+				continue;
+			}
+
+			nargs[count] = Argument.from("u" + count);
+			nvars[count] = du;
+			nslots[count] = slots[i];
+			result = add(result, multiply(dop, nargs[count++]));
+		}
+
+		return substitute(result,
+			Arrays.copyOf(nargs, count),
+			Arrays.copyOf(nvars, count),
+			Arrays.copyOf(nslots, count));
+	}
+
+	private static Variable differentiate(Variable var, Argument arg)
+	{
+		if(var instanceof Constant)
+		{
+			return ZERO;
+		}
+
+		// Without an argument, every argument is differentiated.
+		if(var instanceof Argument)
+		{
+			if(arg == null || var.toString().equals(arg.toString()))
+			{
+				return ONE;
+			}
+
+			return ZERO;
+		}
+
+		if(var instanceof Polynomial)
+		{
+			Polynomial poly = ((Polynomial) var).derivative();
+			if(poly.Degree() == 0)
+			{
+				return Constant.from(poly.Coefficient(0));
+			}
+
+			return poly;
+		}
+
+		if(var instanceof Rational)
+		{
+			return ((Rational) var).derivative();
+		}
+
+		// A nested substitution passes its value on to every operand.
+		if(var instanceof Substitution)
+		{
+			return derive((Substitution) var, (boolean[]) null);
+		}
+
+		if(var instanceof Function)
+		{
+			Function func = (Function) var;
+			if(func.Operator() != null)
+			{
+				return derive(func.Operator(), func.Operands(), arg);
+			}
+		}
+
+		throw new UnsupportedOperationException("The variable " + var + " can not be differentiated.");
+	}
+
+	private static Variable derive(Operator op, Variable[] vars, Argument arg)
+	{
+		Variable u = vars[0];
+		Variable du = differentiate(u, arg);
+		if(vars.length == 1)
+		{
+			return unary(op, u, du);
+		}
+
+		Variable v = vars[1];
+		Variable dv = differentiate(v, arg);
+		switch(op)
+		{
+		case ADD:
+			return add(du, dv);
+		case SUBTRACT:
+			return subtract(du, dv);
+		case MULTIPLY:
+			return add(multiply(du, v), multiply(u, dv));
+		case DIVIDE:
+			return divide(subtract(multiply(du, v), multiply(u, dv)), multiply(v, v));
+		case POW:
+			return power(u, v, du, dv);
+		case LOG:
+			return logarithm(u, v, du, dv);
+		case ATAN2:
+			// d atan2(u, v) = (v.du - u.dv) / (u^2 + v^2)
+			return divide(subtract(multiply(v, du), multiply(u, dv)), add(multiply(u, u), multiply(v, v)));
+		case ROUND:
+			return ZERO;
+		case MIN:
+		case MAX:
+			return extreme(op, vars, arg);
+		case CLAMP:
+			// Clamp(u, v, w) = Max(v, Min(u, w))
+			Variable min = Functions.Min(u, vars[2]);
+			return extreme(Operator.MAX, new Variable[]{v, min}, arg);
+		default:
+			throw new UnsupportedOperationException("The operator " + op + " can not be differentiated.");
+		}
+	}
+
+	private static Variable unary(Operator op, Variable u, Variable du)
+	{
+		if(isZero(du))
+		{
+			return ZERO;
+		}
+
+		switch(op)
+		{
+		case EXP:
+			return multiply(Functions.Exp(u), du);
+		case SIGN:
+		case ROUND:
+		case FLOOR:
+		case CEIL:
+			return ZERO;
+		case ABS:
+			return multiply(Functions.Sign(u), du);
+		case MIN:
+		case MAX:
+			return du;
+		case LOG10:
+			return divide(du, multiply(u, Constant.from(Math.log(10))));
+		case LN:
+			return divide(du, u);
+		case CBRT:
+			Variable cbrt = Functions.Cbrt(u);
+			return divide(du, multiply(Constant.from(3), multiply(cbrt, cbrt)));
+		case SQRT:
+			return divide(du, multiply(Constant.from(2), Functions.Sqrt(u)));
+		case SIN:
+			return multiply(Functions.Cos(u), du);
+		case COS:
+			return negate(multiply(Functions.Sin(u), du));
+		case TAN:
+			Variable cos = Functions.Cos(u);
+			return divide(du, multiply(cos, cos));
+		case COSH:
+			return multiply(Functions.Sinh(u), du);
+		case SINH:
+			return multiply(Functions.Cosh(u), du);
+		case TANH:
+			Variable tanh = Functions.Tanh(u);
+			return multiply(subtract(ONE, multiply(tanh, tanh)), du);
+		case ACOS:
+			return negate(divide(du, Functions.Sqrt(subtract(ONE, multiply(u, u)))));
+		case ASIN:
+			return divide(du, Functions.Sqrt(subtract(ONE, multiply(u, u))));
+		case ATAN:
+			return divide(du, add(ONE, multiply(u, u)));
+		default:
+			throw new UnsupportedOperationException("The operator " + op + " can not be differentiated.");
+		}
+	}
+
+	private static Variable power(Variable u, Variable v, Variable du, Variable dv)
+	{
+		// d u^v = v.u^(v-1).du when v is constant.
+		if(isZero(dv))
+		{
+			if(isZero(du))
+			{
+				return ZERO;
+			}
+
+			return multiply(multiply(v, pow(u, subtract(v, ONE))), du);
+		}
+
+		// d u^v = u^v.(dv.ln(u) + v.du / u)
+		Variable rate = multiply(dv, Functions.Ln(u));
+		if(!isZero(du))
+		{
+			rate = add(rate, divide(multiply(v, du), u));
+		}
+
+		return multiply(pow(u, v), rate);
+	}
+
+	private static Variable logarithm(Variable u, Variable v, Variable du, Variable dv)
+	{
+		// d log(u, v) = d (ln(u) / ln(v))
+		Variable lnu = Functions.Ln(u);
+		Variable lnv = Functions.Ln(v);
+		if(isZero(dv))
+		{
+			return divide(du, multiply(u, lnv));
+		}
+
+		Variable numer = subtract(multiply(divide(du, u), lnv), multiply(lnu, divide(dv, v)));
+		return divide(numer, multiply(lnv, lnv));
+	}
+
+	private static Variable extreme(Operator op, Variable[] vars, Argument arg)
+	{
+		// Fold the operands pairwise, selecting one derivative with the sign of u - v.
+		Variable u = vars[0];
+		Variable du = differentiate(u, arg);
+		for(int i = 1; i < vars.length; i++)
+		{
+			Variable v = vars[i];
+			Variable dv = differentiate(v, arg);
+
+			// max(u, v)' = (du + dv) / 2 + sign(u - v).(du - dv) / 2
+			Variable mean = multiply(Constant.from(0.5), add(du, dv));
+			Variable diff = multiply(Constant.from(0.5), subtract(du, dv));
+			Variable sign = Functions.Sign(subtract(u, v));
+			if(op == Operator.MIN)
+			{
+				sign = negate(sign);
+			}
+
+			u = op == Operator.MIN ? Functions.Min(u, v) : Functions.Max(u, v);
+			du = add(mean, multiply(sign, diff));
+		}
+
+		return du;
+	}
+
+
+	private static Variable add(Variable a, Variable b)
+	{
+		if(isZero(a)) return b;
+		if(isZero(b)) return a;
+		if(a instanceof Constant && b instanceof Constant)
+		{
+			return Constant.from(value(a) + value(b));
+		}
+
+		return Functions.Add(a, b);
+	}
+
+	private static Variable subtract(Variable a, Variable b)
+	{
+		if(isZero(b)) return a;
+		if(isZero(a)) return negate(b);
+		if(a instanceof Constant && b instanceof Constant)
+		{
+			return Constant.from(value(a) - value(b));
+		}
+
+		return Functions.Subtract(a, b);
+	}
+
+	private static Variable multiply(Variable a, Variable b)
+	{
+		if(isZero(a) || isZero(b)) return ZERO;
+		if(isOne(a)) return b;
+		if(isOne(b)) return a;
+		if(a instanceof Constant && b instanceof Constant)
+		{
+			return Constant.from(value(a) * value(b));
+		}
+
+		return Functions.Multiply(a, b);
+	}
+
+	private static Variable divide(Variable a, Variable b)
+	{
+		if(isZero(a)) return ZERO;
+		if(isOne(b)) return a;
+		if(a instanceof Constant && b instanceof Constant)
+		{
+			return Constant.from(value(a) / value(b));
+		}
+
+		return Functions.Divide(a, b);
+	}
+
+	private static Variable negate(Variable a)
+	{
+		if(a instanceof Constant)
+		{
+			return Constant.from(-value(a));
+		}
+
+		return Functions.Multiply(Constant.from(-1), a);
+	}
+
+	private static Variable pow(Variable a, Variable b)
+	{
+		if(isZero(b)) return ONE;
+		if(isOne(b)) return a;
+		return Functions.Pow(a, b);
+	}
+
+
+	private static Variable replace(Variable var, Map<Variable, Variable> map)
+	{
+		Variable result = map.get(var);
+		if(result != null)
+		{
+			return result;
+		}
+
+		result = var;
+		if(var instanceof Function)
+		{
+			Function func = (Function) var;
+			Operator op = func.Operator();
+			if(op != null)
+			{
+				Variable[] vars = func.Operands();
+
+				boolean isChanged = false;
+				for(int i = 0; i < vars.length; i++)
+				{
+					Variable next = replace(vars[i], map);
+					isChanged |= next != vars[i];
+					vars[i] = next;
+				}
+
+				if(isChanged)
+				{
+					result = rebuild(op, vars);
+				}
+			}
+		}
+
+		map.put(var, result);
+		return result;
+	}
+
+	private static Variable rebuild(Operator op, Variable[] vars)
+	{
+		boolean isConstant = true;
+		for(Variable var : vars)
+		{
+			isConstant &= var instanceof Constant;
+		}
+
+		if(isConstant)
+		{
+			return Constant.from(Simplifier.rebuild(op, vars).evaluate1(0));
+		}
+
+		switch(op)
+		{
+		case ADD:
+			return add(vars[0], vars[1]);
+		case SUBTRACT:
+			return subtract(vars[0], vars[1]);
+		case MULTIPLY:
+			return multiply(vars[0], vars[1]);
+		case DIVIDE:
+			return divide(vars[0], vars[1]);
+		case POW:
+			return pow(vars[0], vars[1]);
+		default:
+			return Simplifier.rebuild(op, vars);
+		}
+	}
+
+	private static boolean[] selection(int[] slots)
+	{
+		int count = 0;
+		for(int slot : slots)
+		{
+			count = Math.max(count, slot + 1);
+		}
+
+		return new boolean[count];
+	}
+
+	private static boolean isFirst(Variable var)
+	{
+		// Only the first operand of a root function receives a value.
+		Variable[] vars = ((Function) var).Operands();
+		for(int i = 1; i < vars.length; i++)
+		{
+			if(!(vars[i] instanceof Constant))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isRouted(Variable var)
+	{
+		// A root with more than one operand routes its values.
+		if(var instanceof Function)
+		{
+			Function func = (Function) var;
+			return func.Operator() != null && func.Operands().length > 1;
+		}
+
+		return false;
+	}
+
+	private static boolean contains(Variable var, String name)
+	{
+		// Without a name, any argument is matched.
+		if(var instanceof Argument)
+		{
+			return name == null || var.toString().equals(name);
+		}
+
+		if(var instanceof Function)
+		{
+			for(Variable v : ((Function) var).Operands())
+			{
+				if(contains(v, name))
+				{
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isZero(Variable var)
+	{
+		return var instanceof Constant && value(var) == 0;
+	}
+
+	private static boolean isOne(Variable var)
+	{
+		return var instanceof Constant && value(var) == 1;
+	}
+
+	private static double value(Variable var)
+	{
+		return ((Constant) var).Value();
+	}
+}
@@ -0,0 +1,123 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.Arrays;
+
+import zeno.util.calc.Variable;
+
+/**
+ * The {@code DualEvaluator} class evaluates a {@code Variable} tree with forward-mode automatic differentiation.
+ * <br> The tree is flattened once into a list of nodes, with every operand before its operator.
+ * Each evaluation then computes the value of every node together with its tangent, which holds
+ * the partial derivatives for each argument. Values and tangents are stored in primitive arrays,
+ * so the value and gradient of the tree are found in a single pass without creating any objects.
+ * <br> The gradient holds one partial derivative for each value, routed as in {@link Variable#evaluate(double...)}.
+ * Polynomials and rationals are differentiated in closed form. Rounding and sign operators
+ * have a derivative of zero, and extremes have the derivative of the operand they select.
+ * <br> The tangents are kept between calls, so each thread needs its own evaluator.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Automatic_differentiation">Automatic Differentiation</a>
+ * @see Variable
+ */
+public final class DualEvaluator
+{
+	private Tape tape;
+	private double[] val, part, tan;
+
+	/**
+	 * Creates a new {@code DualEvaluator}.
+	 * 
+	 * @param var  a variable to evaluate
+	 * @throws UnsupportedOperationException  if the tree holds a variable without a derivative rule
+	 * @see Variable
+	 */
+	public DualEvaluator(Variable var)
+	{
+		tape = new Tape(var, true);
+		val = new double[tape.size];
+		part = new double[3 * tape.size];
+		tan = new double[0];
+	}
+
+
+	/**
+	 * Evaluates the {@code DualEvaluator} for specific values.
+	 * <br> The gradient array needs room for one partial derivative per value.
+	 * 
+	 * @param args  a list of arguments
+	 * @param grad  the output gradient
+	 * @return  the evaluated result
+	 */
+	public double evaluate(double[] args, double[] grad)
+	{
+		int n = args.length;
+		int size = tape.size;
+		if(tan.length < size * n)
+		{
+			tan = new double[size * n];
+		}
+
+		tape.record(args, val, part);
+		for(int k = 0; k < size; k++)
+		{
+			int t = k * n;
+			int code = tape.codes[k];
+			if(code == Tape.CONSTANT)
+			{
+				Arrays.fill(tan, t, t + n, 0);
+				continue;
+			}
+
+			if(code == Tape.ARGUMENT || code == Tape.LEAF)
+			{
+				Arrays.fill(tan, t, t + n, 0);
+				tan[t + tape.slot(k, n)] = part[3 * k];
+				continue;
+			}
+
+			// Combine the operand tangents.
+			double pa = part[3 * k];
+			double pb = part[3 * k + 1];
+			double pc = part[3 * k + 2];
+			int s0 = tape.in0[k] * n;
+			int s1 = tape.in1[k] * n;
+			int s2 = tape.in2[k] * n;
+			if(pc != 0)
+			{
+				for(int j = 0; j < n; j++)
+				{
+					tan[t + j] = pa * tan[s0 + j] + pb * tan[s1 + j] + pc * tan[s2 + j];
+				}
+			}
+			else if(pb != 0)
+			{
+				for(int j = 0; j < n; j++)
+				{
+					tan[t + j] = pa * tan[s0 + j] + pb * tan[s1 + j];
+				}
+			}
+			else
+			{
+				for(int j = 0; j < n; j++)
+				{
+					tan[t + j] = pa * tan[s0 + j];
+				}
+			}
+		}
+
+		System.arraycopy(tan, (size - 1) * n, grad, 0, n);
+		return val[size - 1];
+	}
+
+	/**
+	 * Returns the node count of the {@code DualEvaluator}.
+	 * 
+	 * @return  the evaluator's node count
+	 */
+	public int Size()
+	{
+		return tape.size;
+	}
+}
@@ -0,0 +1,209 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
+
+import zeno.util.calc.Variable;
+
+/**
+ * The {@code ExpressionCache} class keeps recently parsed expressions.
+ * <br> Parsed trees are stored by their source text, up to a fixed capacity.
+ * When the cache grows past its capacity, the least recently used expressions
+ * are removed in a batch, down to seven eighths of the capacity.
+ * Trees are immutable, so a cached tree can be shared by every caller.
+ * <br> An {@code ExpressionCache} is safe for use by multiple threads, and a hit does not lock.
+ * Instead of its own time, a hit records the time of the last insertion, so the order of
+ * use is approximate: expressions used between two insertions are equally recent.
+ * Two threads that miss on the same text at once may both parse it,
+ * but they both return the tree that was stored first.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see ExpressionParser
+ * @see Variable
+ */
+public class ExpressionCache
+{
+	private static final int DEF_CAPACITY = 1024;
+
+
+	private int capacity;
+	private AtomicLong clock;
+	private ReentrantLock eviction;
+	private ConcurrentHashMap<String, Entry> cache;
+
+	/**
+	 * Creates a new {@code ExpressionCache}.
+	 * 
+	 * @param capacity  the cache's capacity
+	 * @throws IllegalArgumentException  if the capacity is not positive
+	 */
+	public ExpressionCache(int capacity)
+	{
+		if(capacity <= 0)
+		{
+			throw new IllegalArgumentException("The capacity of a cache must be positive.");
+		}
+
+		this.capacity = capacity;
+		cache = new ConcurrentHashMap<>();
+		eviction = new ReentrantLock();
+		clock = new AtomicLong();
+	}
+
+	/**
+	 * Creates a new {@code ExpressionCache}.
+	 */
+	public ExpressionCache()
+	{
+		this(DEF_CAPACITY);
+	}
+
+
+	/**
+	 * Returns the parsed tree of an expression string.
+	 * <br> The text is only parsed if it is not in the cache.
+	 * 
+	 * @param text  an expression string
+	 * @return  the parsed variable
+	 * @throws IllegalArgumentException  if the text is not a valid expression
+	 * @see ExpressionParser
+	 */
+	public Variable parse(String text)
+	{
+		Entry entry = cache.get(text);
+		if(entry != null)
+		{
+			// Only write a new time, so hits on a hot entry do not keep invalidating it.
+			long time = clock.get();
+			if(entry.time != time)
+			{
+				entry.time = time;
+			}
+
+			return entry.var;
+		}
+
+		Entry next = new Entry(ExpressionParser.parse(text), clock.incrementAndGet());
+		entry = cache.putIfAbsent(text, next);
+		if(entry != null)
+		{
+			return entry.var;
+		}
+
+		if(cache.size() > capacity)
+		{
+			evict();
+		}
+
+		return next.var;
+	}
+
+	/**
+	 * Clears the {@code ExpressionCache}.
+	 */
+	public void clear()
+	{
+		cache.clear();
+	}
+
+	/**
+	 * Returns the capacity of the {@code ExpressionCache}.
+	 * 
+	 * @return  the cache's capacity
+	 */
+	public int Capacity()
+	{
+		return capacity;
+	}
+
+	/**
+	 * Returns the size of the {@code ExpressionCache}.
+	 * 
+	 * @return  the cache's expression count
+	 */
+	public int Size()
+	{
+		return cache.size();
+	}
+
+
+	private void evict()
+	{
+		// One thread evicts at a time, while the others go on.
+		if(!eviction.tryLock())
+		{
+			return;
+		}
+
+		try
+		{
+			int count = cache.size() - capacity + capacity / 8;
+			if(count <= 0)
+			{
+				return;
+			}
+
+			int size = 0;
+			long[] times = new long[cache.size() + 16];
+			for(Entry entry : cache.values())
+			{
+				if(size == times.length)
+				{
+					times = Arrays.copyOf(times, 2 * size);
+				}
+
+				times[size++] = entry.time;
+			}
+
+			if(size == 0)
+			{
+				return;
+			}
+
+			// Remove entries older than the cutoff first, then entries at the cutoff.
+			Arrays.sort(times, 0, size);
+			long cutoff = times[Math.min(count, size) - 1];
+			count -= remove(count, t -> t < cutoff);
+			remove(count, t -> t == cutoff);
+		}
+		finally
+		{
+			eviction.unlock();
+		}
+	}
+
+	private int remove(int count, LongPredicate isOld)
+	{
+		int removed = 0;
+		Iterator<Entry> entries = cache.values().iterator();
+		while(removed < count && entries.hasNext())
+		{
+			if(isOld.test(entries.next().time))
+			{
+				entries.remove();
+				removed++;
+			}
+		}
+
+		return removed;
+	}
+
+
+	private static final class Entry
+	{
+		private Variable var;
+		private volatile long time;
+
+		public Entry(Variable var, long time)
+		{
+			this.var = var;
+			this.time = time;
+		}
+	}
+}
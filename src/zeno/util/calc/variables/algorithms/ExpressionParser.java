@@ -0,0 +1,369 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import zeno.util.calc.Functions;
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Argument;
+import zeno.util.calc.variables.functions.Constant;
+
+/**
+ * The {@code ExpressionParser} class parses expression strings into {@code Variable} trees.
+ * <br> The text is read in a single recursive-descent pass, which builds each node with
+ * the matching {@link Functions} factory as soon as its operands are known. Expressions hold
+ * decimal numbers, argument names, the constant {@code pi}, the operators {@code + - * / ^}
+ * and parentheses. The power operator binds tighter than negation and is right-associative,
+ * so {@code -y^2} is read as {@code -(y^2)}.
+ * <br> The following functions are known: {@code sin, cos, tan, sinh, cosh, tanh, asin, acos, atan,
+ * atan2, exp, ln, log, log10, sqrt, cbrt, abs, sign, floor, ceil, round, min, max, clamp} and {@code pow}.
+ * Any other name is read as an {@code Argument}.
+ * <br> The parsed tree routes its arguments the same way any other tree does.
+ * Use {@link Variable#bind(String...)} to evaluate it with arguments by name.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Recursive_descent_parser">Recursive Descent Parser</a>
+ * @see ExpressionCache
+ * @see Variable
+ */
+public final class ExpressionParser
+{
+	/**
+	 * Parses an expression string.
+	 * 
+	 * @param text  an expression string
+	 * @return  the parsed variable
+	 * @throws IllegalArgumentException  if the text is not a valid expression
+	 * @see Variable
+	 */
+	public static Variable parse(CharSequence text)
+	{
+		ExpressionParser parser = new ExpressionParser(text);
+		Variable result = parser.sum();
+		parser.skip();
+		if(parser.pos < text.length())
+		{
+			throw parser.error("Unexpected character");
+		}
+
+		return result;
+	}
+
+
+	private CharSequence text;
+	private int pos;
+
+	private ExpressionParser(CharSequence text)
+	{
+		this.text = text;
+	}
+
+
+	private Variable sum()
+	{
+		Variable result = product();
+		while(true)
+		{
+			if(accept('+'))
+				result = Functions.Add(result, product());
+			else if(accept('-'))
+				result = Functions.Subtract(result, product());
+			else
+				return result;
+		}
+	}
+
+	private Variable product()
+	{
+		Variable result = unary();
+		while(true)
+		{
+			if(accept('*'))
+				result = Functions.Multiply(result, unary());
+			else if(accept('/'))
+				result = Functions.Divide(result, unary());
+			else
+				return result;
+		}
+	}
+
+	private Variable unary()
+	{
+		if(accept('+'))
+		{
+			return unary();
+		}
+
+		if(accept('-'))
+		{
+			Variable var = unary();
+			if(var instanceof Constant)
+			{
+				return Constant.from(-((Constant) var).Value());
+			}
+
+			return Functions.Multiply(Constant.from(-1), var);
+		}
+
+		return power();
+	}
+
+	private Variable power()
+	{
+		Variable base = primary();
+		if(accept('^'))
+		{
+			// The exponent may be negated, as in x^-2.
+			return Functions.Pow(base, unary());
+		}
+
+		return base;
+	}
+
+	private Variable primary()
+	{
+		skip();
+		if(pos == text.length())
+		{
+			throw error("Unexpected end");
+		}
+
+		char c = text.charAt(pos);
+		if(accept('('))
+		{
+			Variable result = sum();
+			expect(')');
+			return result;
+		}
+
+		if(isDigit(c) || c == '.')
+		{
+			return number();
+		}
+
+		if(isLetter(c))
+		{
+			int start = pos;
+			while(pos < text.length() && (isLetter(text.charAt(pos)) || isDigit(text.charAt(pos))))
+			{
+				pos++;
+			}
+
+			String name = text.subSequence(start, pos).toString();
+			if(accept('('))
+			{
+				return call(name, start);
+			}
+
+			if(name.equals("pi"))
+			{
+				return Constant.from(Math.PI);
+			}
+
+			return Argument.from(name);
+		}
+
+		throw error("Unexpected character");
+	}
+
+	private Variable number()
+	{
+		int start = pos;
+		while(pos < text.length() && (isDigit(text.charAt(pos)) || text.charAt(pos) == '.'))
+		{
+			pos++;
+		}
+
+		// Read an exponent, as in 1.5e-3.
+		if(pos < text.length() && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E'))
+		{
+			int mark = pos++;
+			if(pos < text.length() && (text.charAt(pos) == '+' || text.charAt(pos) == '-'))
+			{
+				pos++;
+			}
+
+			if(pos == text.length() || !isDigit(text.charAt(pos)))
+			{
+				pos = mark;
+			}
+
+			while(pos < text.length() && isDigit(text.charAt(pos)))
+			{
+				pos++;
+			}
+		}
+
+		try
+		{
+			return Constant.from(Double.parseDouble(text.subSequence(start, pos).toString()));
+		}
+		catch(NumberFormatException e)
+		{
+			pos = start;
+			throw error("Invalid number");
+		}
+	}
+
+	private Variable call(String name, int start)
+	{
+		List<Variable> args = new ArrayList<>(3);
+		if(!accept(')'))
+		{
+			do
+			{
+				args.add(sum());
+			}
+			while(accept(','));
+			expect(')');
+		}
+
+		Variable[] vars = args.toArray(new Variable[args.size()]);
+		switch(name)
+		{
+		case "min":
+			if(vars.length > 0)
+				return Functions.Min(vars);
+			break;
+		case "max":
+			if(vars.length > 0)
+				return Functions.Max(vars);
+			break;
+		case "round":
+			if(vars.length == 1)
+				return Functions.Round(vars[0]);
+			if(vars.length == 2 && vars[1] instanceof Constant)
+				return Functions.Round(vars[0], (int) ((Constant) vars[1]).Value());
+			break;
+		case "atan2":
+		case "log":
+		case "pow":
+			if(vars.length == 2)
+				return binary(name, vars[0], vars[1]);
+			break;
+		case "clamp":
+			if(vars.length == 3)
+				return Functions.Clamp(vars[0], vars[1], vars[2]);
+			break;
+		default:
+			if(vars.length == 1)
+			{
+				Variable result = unary(name, vars[0]);
+				if(result != null)
+				{
+					return result;
+				}
+			}
+
+			pos = start;
+			throw error("Unknown function " + name);
+		}
+
+		pos = start;
+		throw error("Invalid operands for " + name);
+	}
+
+	private static Variable binary(String name, Variable u, Variable v)
+	{
+		switch(name)
+		{
+		case "atan2":
+			return Functions.Atan2(u, v);
+		case "log":
+			return Functions.Log(u, v);
+		default:
+			return Functions.Pow(u, v);
+		}
+	}
+
+	private static Variable unary(String name, Variable u)
+	{
+		switch(name)
+		{
+		case "sin":
+			return Functions.Sin(u);
+		case "cos":
+			return Functions.Cos(u);
+		case "tan":
+			return Functions.Tan(u);
+		case "sinh":
+			return Functions.Sinh(u);
+		case "cosh":
+			return Functions.Cosh(u);
+		case "tanh":
+			return Functions.Tanh(u);
+		case "asin":
+			return Functions.ASin(u);
+		case "acos":
+			return Functions.Acos(u);
+		case "atan":
+			return Functions.ATan(u);
+		case "exp":
+			return Functions.Exp(u);
+		case "ln":
+			return Functions.Ln(u);
+		case "log10":
+			return Functions.Log10(u);
+		case "sqrt":
+			return Functions.Sqrt(u);
+		case "cbrt":
+			return Functions.Cbrt(u);
+		case "abs":
+			return Functions.Abs(u);
+		case "sign":
+			return Functions.Sign(u);
+		case "floor":
+			return Functions.Floor(u);
+		case "ceil":
+			return Functions.Ceil(u);
+		default:
+			return null;
+		}
+	}
+
+
+	private boolean accept(char c)
+	{
+		skip();
+		if(pos < text.length() && text.charAt(pos) == c)
+		{
+			pos++;
+			return true;
+		}
+
+		return false;
+	}
+
+	private void expect(char c)
+	{
+		if(!accept(c))
+		{
+			throw error("Expected '" + c + "'");
+		}
+	}
+
+	private void skip()
+	{
+		while(pos < text.length() && Character.isWhitespace(text.charAt(pos)))
+		{
+			pos++;
+		}
+	}
+
+	private IllegalArgumentException error(String message)
+	{
+		return new IllegalArgumentException(message + " at index " + pos + " in \"" + text + "\".");
+	}
+
+	private static boolean isLetter(char c)
+	{
+		return c == '_' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+	}
+
+	private static boolean isDigit(char c)
+	{
+		return c >= '0' && c <= '9';
+	}
+}
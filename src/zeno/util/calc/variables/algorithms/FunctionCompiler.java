@@ -0,0 +1,845 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Argument;
+import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.Operator;
+import zeno.util.calc.variables.functions.Constant;
+import zeno.util.calc.variables.functions.Polynomial;
+import zeno.util.calc.variables.functions.Rational;
+
+/**
+ * The {@code FunctionCompiler} class compiles a {@code Variable} tree to JVM bytecode.
+ * <br> The tree is walked once and emitted as a single hidden class, whose
+ * {@code evaluate} method computes the whole tree in straight-line code.
+ * Operator nodes, constants, arguments, polynomials and rationals are inlined,
+ * while any other variable is kept as a leaf and called directly.
+ * <br> Arguments are routed the same way {@link Variable#evaluate(double...)} routes them,
+ * so the compiled function returns the same result as the tree it was compiled from.
+ * Besides {@code evaluate}, the fixed-arity {@code evaluate1}, {@code evaluate2}
+ * and {@code evaluate3} entry points are compiled where the tree accepts them.
+ * An entry point that would read past its values, or that takes fewer values than the root
+ * has operands, is not compiled and is left to the tree it was compiled from.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see Variable
+ * @see Function
+ */
+public final class FunctionCompiler
+{
+	// Larger methods are not compiled by the JIT.
+	private static final int MAX_CODE_LENGTH = 4000;
+	private static final int MAX_DEPTH = 256;
+
+	private static final String CODE = "Code";
+	private static final String INIT = "<init>";
+	private static final String APPLY = "apply";
+	private static final String EVALUATE = "evaluate";
+
+	private static final String CLASS = "zeno/util/calc/variables/algorithms/CompiledFunction";
+	private static final String SUPER = "zeno/util/calc/variables/algorithms/FunctionCompiler$Compiled";
+	private static final String OPERATOR = "zeno/util/calc/variables/Operator";
+	private static final String VARIABLE = "zeno/util/calc/Variable";
+
+	private static final String LEAVES = "[Lzeno/util/calc/Variable;";
+	private static final String[] TYPES = {"([D)D", "(D)D", "(DD)D", "(DDD)D"};
+
+
+	/**
+	 * Compiles a {@code Variable} to a bytecode {@code Function}.
+	 * <br> If the tree is too large or too deep to compile into a method the JIT
+	 * will optimize, the returned function evaluates the tree itself.
+	 * 
+	 * @param var  a variable to compile
+	 * @return  a compiled function
+	 * @see Function
+	 */
+	public static Function compile(Variable var)
+	{
+		FunctionCompiler compiler = new FunctionCompiler();
+
+		Code[] methods = new Code[TYPES.length];
+		for(int arity = 0; arity < TYPES.length; arity++)
+		{
+			methods[arity] = compiler.method(var, arity);
+		}
+
+		if(methods[0] == null)
+		{
+			Compiled result = new Compiled(new Variable[]{var})
+			{
+				@Override
+				protected double apply(double[] args)
+				{
+					return leaves[0].evaluate(args);
+				}
+			};
+
+			result.source = var;
+			return result;
+		}
+
+		Variable[] leaves = compiler.leaves.toArray(new Variable[0]);
+		byte[] bytes = compiler.assemble(methods);
+
+		try
+		{
+			Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+			MethodType type = MethodType.methodType(void.class, Variable[].class);
+			MethodHandle init = lookup.findConstructor(lookup.lookupClass(), type);
+			Compiled result = (Compiled) init.invoke(leaves);
+			result.source = var;
+			return result;
+		}
+		catch(Throwable e)
+		{
+			throw new IllegalStateException("Failed to define compiled function.", e);
+		}
+	}
+
+
+	/**
+	 * The {@code Compiled} class is the base class of every compiled function.
+	 * <br> It holds the leaves that could not be inlined in the bytecode,
+	 * and the source tree for the entry points that were not compiled.
+	 */
+	static abstract class Compiled extends Function
+	{
+		protected final Variable[] leaves;
+		Variable source;
+
+		/**
+		 * Creates a new {@code Compiled}.
+		 * 
+		 * @param leaves  the function's leaves
+		 */
+		protected Compiled(Variable[] leaves)
+		{
+			this.leaves = leaves;
+		}
+
+
+		/**
+		 * Evaluates the {@code Compiled} for more than one value.
+		 * 
+		 * @param args  an list of arguments
+		 * @return  the evaluated result
+		 */
+		protected abstract double apply(double[] args);
+
+		@Override
+		public double evaluate1(double val)
+		{
+			// A single value is routed to every operand of the source.
+			return source.evaluate1(val);
+		}
+
+		@Override
+		public double evaluate2(double val1, double val2)
+		{
+			return source.evaluate2(val1, val2);
+		}
+
+		@Override
+		public double evaluate3(double val1, double val2, double val3)
+		{
+			return source.evaluate3(val1, val2, val3);
+		}
+
+		@Override
+		public double evaluate(double... args)
+		{
+			if(args.length == 1)
+			{
+				return evaluate1(args[0]);
+			}
+
+			return apply(args);
+		}
+	}
+
+
+	// Opcodes
+
+	private static final int ICONST_0 = 0x03;
+	private static final int DCONST_0 = 0x0E;
+	private static final int DCONST_1 = 0x0F;
+	private static final int BIPUSH = 0x10;
+	private static final int SIPUSH = 0x11;
+	private static final int LDC_W = 0x13;
+	private static final int LDC2_W = 0x14;
+	private static final int DLOAD = 0x18;
+	private static final int DLOAD_1 = 0x27;
+	private static final int DLOAD_3 = 0x29;
+	private static final int ALOAD_0 = 0x2A;
+	private static final int ALOAD_1 = 0x2B;
+	private static final int DALOAD = 0x31;
+	private static final int AALOAD = 0x32;
+	private static final int DADD = 0x63;
+	private static final int DSUB = 0x67;
+	private static final int DMUL = 0x6B;
+	private static final int DDIV = 0x6F;
+	private static final int DRETURN = 0xAF;
+	private static final int RETURN = 0xB1;
+	private static final int GETSTATIC = 0xB2;
+	private static final int GETFIELD = 0xB4;
+	private static final int INVOKEVIRTUAL = 0xB6;
+	private static final int INVOKESPECIAL = 0xB7;
+	private static final int INVOKEINTERFACE = 0xB9;
+
+
+	private Map<Variable, Integer> indices;
+	private List<Variable> leaves;
+	private ConstantPool pool;
+
+	private boolean unbound, isTooDeep;
+	private int arity, depth;
+	private Code code;
+
+	private FunctionCompiler()
+	{
+		indices = new IdentityHashMap<>();
+		leaves = new ArrayList<>();
+		pool = new ConstantPool();
+	}
+
+
+	private Code method(Variable var, int arity)
+	{
+		this.arity = arity;
+		code = new Code();
+		unbound = false;
+		isTooDeep = false;
+
+		emit(var, -1);
+		code.write(DRETURN, -2);
+
+		// Drop entry points that read past their arguments.
+		if(unbound)
+		{
+			return null;
+		}
+
+		// Drop entry points the JIT would leave interpreted.
+		if(isTooDeep || code.length() > MAX_CODE_LENGTH)
+		{
+			return null;
+		}
+
+		// Drop entry points that take fewer values than the root has operands.
+		if(1 < arity && var instanceof Function)
+		{
+			Function func = (Function) var;
+			if(func.Operator() != null && arity < func.Operands().length)
+			{
+				return null;
+			}
+		}
+
+		return code;
+	}
+
+	private void emit(Variable var, int slot)
+	{
+		// Stop emitting a tree too deep to compile.
+		if(isTooDeep || depth == MAX_DEPTH)
+		{
+			isTooDeep = true;
+			return;
+		}
+
+		depth++;
+		emitNode(var, slot);
+		depth--;
+	}
+
+	private void emitNode(Variable var, int slot)
+	{
+		if(var instanceof Constant)
+		{
+			emitValue(var.evaluate());
+			return;
+		}
+
+		if(var instanceof Argument)
+		{
+			emitArgument(slot);
+			return;
+		}
+
+		if(var instanceof Polynomial)
+		{
+			emitPolynomial((Polynomial) var, slot);
+			return;
+		}
+
+		if(var instanceof Rational)
+		{
+			Rational rat = (Rational) var;
+			emitPolynomial(rat.Quotient(), slot);
+			emitPolynomial(rat.Remainder(), slot);
+			emitPolynomial(rat.Divisor(), slot);
+			code.write(DDIV, -2);
+			code.write(DADD, -2);
+			return;
+		}
+
+		if(var instanceof Function)
+		{
+			Function func = (Function) var;
+			if(func.Operator() != null)
+			{
+				emitOperation(func.Operator(), func.Operands(), slot);
+				return;
+			}
+		}
+
+		emitLeaf(var, slot);
+	}
+
+	private void emitOperation(Operator op, Variable[] vars, int slot)
+	{
+		switch(op)
+		{
+		case ADD:
+		case SUBTRACT:
+		case MULTIPLY:
+		case DIVIDE:
+			emit(vars[0], route(slot, 0));
+			emit(vars[1], route(slot, 1));
+			code.write(arithmetic(op), -2);
+			return;
+		case ROUND:
+			if(vars.length == 2)
+			{
+				code.write(GETSTATIC, 1);
+				code.writeShort(pool.field(OPERATOR, op.name(), "L" + OPERATOR + ";"));
+				emit(vars[0], route(slot, 0));
+				emitValue(vars[1].evaluate());
+				emitApply(2);
+				return;
+			}
+
+			break;
+		case MIN:
+		case MAX:
+			if(vars.length == 0)
+			{
+				throw new IllegalArgumentException(op + " requires at least one operand.");
+			}
+
+			for(int i = 1; i < vars.length; i++)
+			{
+				code.write(GETSTATIC, 1);
+				code.writeShort(pool.field(OPERATOR, op.name(), "L" + OPERATOR + ";"));
+			}
+
+			emit(vars[0], route(slot, 0));
+			for(int i = 1; i < vars.length; i++)
+			{
+				emit(vars[i], route(slot, i));
+				emitApply(2);
+			}
+
+			return;
+		default:
+			break;
+		}
+
+		code.write(GETSTATIC, 1);
+		code.writeShort(pool.field(OPERATOR, op.name(), "L" + OPERATOR + ";"));
+		for(int i = 0; i < vars.length; i++)
+		{
+			emit(vars[i], route(slot, i));
+		}
+
+		emitApply(vars.length);
+	}
+
+	private void emitPolynomial(Polynomial poly, int slot)
+	{
+		double[] coef = poly.Coefficients();
+
+		int deg = coef.length - 1;
+		emitValue(coef[deg]);
+		for(int d = deg - 1; d >= 0; d--)
+		{
+			emitArgument(slot);
+			code.write(DMUL, -2);
+			if(coef[d] != 0)
+			{
+				emitValue(coef[d]);
+				code.write(DADD, -2);
+			}
+		}
+	}
+
+	private void emitLeaf(Variable var, int slot)
+	{
+		Integer index = indices.get(var);
+		if(index == null)
+		{
+			index = leaves.size();
+			indices.put(var, index);
+			leaves.add(var);
+		}
+
+		code.write(ALOAD_0, 1);
+		code.write(GETFIELD, 0);
+		code.writeShort(pool.field(SUPER, "leaves", LEAVES));
+		emitInteger(index);
+		code.write(AALOAD, -1);
+
+		// Nested leaves receive a single value.
+		int count;
+		if(0 <= slot)
+		{
+			emitArgument(slot);
+			count = 1;
+		}
+		// The root leaf receives every value.
+		else if(arity == 0)
+		{
+			code.write(ALOAD_1, 1);
+			count = 0;
+		}
+		else
+		{
+			for(int i = 0; i < arity; i++)
+			{
+				emitArgument(i);
+			}
+
+			count = arity;
+		}
+
+		int slots = count == 0 ? 1 : 2 * count;
+		code.write(INVOKEINTERFACE, 2 - 1 - slots);
+		code.writeShort(pool.interfaceMethod(VARIABLE, EVALUATE + (count == 0 ? "" : count), TYPES[count]));
+		code.writeByte(1 + slots);
+		code.writeByte(0);
+	}
+
+	private void emitApply(int count)
+	{
+		if(count < 1 || 3 < count)
+		{
+			throw new IllegalArgumentException("Operators take one to three operands.");
+		}
+
+		char[] desc = new char[count];
+		Arrays.fill(desc, 'D');
+
+		code.write(INVOKEVIRTUAL, -1 - 2 * count + 2);
+		code.writeShort(pool.method(OPERATOR, "apply", "(" + new String(desc) + ")D"));
+	}
+
+	private void emitArgument(int slot)
+	{
+		slot = Math.max(slot, 0);
+		switch(arity)
+		{
+		case 0:
+			code.write(ALOAD_1, 1);
+			emitInteger(slot);
+			code.write(DALOAD, 0);
+			return;
+		case 1:
+			code.write(DLOAD_1, 2);
+			return;
+		default:
+			if(arity <= slot)
+			{
+				unbound = true;
+			}
+
+			if(slot == 0)
+				code.write(DLOAD_1, 2);
+			else if(slot == 1)
+				code.write(DLOAD_3, 2);
+			else
+			{
+				code.write(DLOAD, 2);
+				code.writeByte(1 + 2 * slot);
+			}
+		}
+	}
+
+	private void emitInteger(int val)
+	{
+		if(-1 <= val && val <= 5)
+		{
+			code.write(ICONST_0 + val, 1);
+			return;
+		}
+
+		if(Byte.MIN_VALUE <= val && val <= Byte.MAX_VALUE)
+		{
+			code.write(BIPUSH, 1);
+			code.writeByte(val);
+			return;
+		}
+
+		if(Short.MIN_VALUE <= val && val <= Short.MAX_VALUE)
+		{
+			code.write(SIPUSH, 1);
+			code.writeShort(val);
+			return;
+		}
+
+		code.write(LDC_W, 1);
+		code.writeShort(pool.integer(val));
+	}
+
+	private void emitValue(double val)
+	{
+		if(Double.doubleToRawLongBits(val) == 0L)
+		{
+			code.write(DCONST_0, 2);
+			return;
+		}
+
+		if(val == 1d)
+		{
+			code.write(DCONST_1, 2);
+			return;
+		}
+
+		code.write(LDC2_W, 2);
+		code.writeShort(pool.value(val));
+	}
+
+	private int arithmetic(Operator op)
+	{
+		switch(op)
+		{
+		case ADD:
+			return DADD;
+		case SUBTRACT:
+			return DSUB;
+		case MULTIPLY:
+			return DMUL;
+		case DIVIDE:
+			return DDIV;
+		default:
+			throw new IllegalArgumentException(op + " is not an arithmetic operator.");
+		}
+	}
+
+	private int route(int slot, int operand)
+	{
+		// The root function receives every argument.
+		if(slot < 0)
+		{
+			return operand;
+		}
+
+		// Nested functions pass their single argument on.
+		return slot;
+	}
+
+
+	private byte[] assemble(Code[] methods)
+	{
+		Code init = new Code();
+		init.write(ALOAD_0, 1);
+		init.write(ALOAD_1, 1);
+		init.write(INVOKESPECIAL, -2);
+		init.writeShort(pool.method(SUPER, INIT, "(" + LEAVES + ")V"));
+		init.write(RETURN, 0);
+
+		int thisClass = pool.type(CLASS);
+		int superClass = pool.type(SUPER);
+		int initName = pool.text(INIT);
+		int initType = pool.text("(" + LEAVES + ")V");
+		int codeName = pool.text(CODE);
+
+		int count = 1;
+		int[] names = new int[methods.length];
+		int[] types = new int[methods.length];
+		for(int i = 0; i < methods.length; i++)
+		{
+			if(methods[i] != null)
+			{
+				names[i] = pool.text(i == 0 ? APPLY : EVALUATE + i);
+				types[i] = pool.text(TYPES[i]);
+				count++;
+			}
+		}
+
+
+		Code file = new Code();
+		file.writeInt(0xCAFEBABE);
+		file.writeShort(0);
+		file.writeShort(52);
+		pool.writeTo(file);
+
+		file.writeShort(0x0031);
+		file.writeShort(thisClass);
+		file.writeShort(superClass);
+		file.writeShort(0);
+		file.writeShort(0);
+
+		file.writeShort(count);
+		writeMethod(file, 0x0001, initName, initType, codeName, init, 2);
+		for(int i = 0; i < methods.length; i++)
+		{
+			if(methods[i] != null)
+			{
+				int access = i == 0 ? 0x0004 : 0x0001;
+				int locals = i == 0 ? 2 : 1 + 2 * i;
+				writeMethod(file, access, names[i], types[i], codeName, methods[i], locals);
+			}
+		}
+
+		file.writeShort(0);
+		return file.toArray();
+	}
+
+	private void writeMethod(Code file, int access, int name, int type, int attr, Code body, int locals)
+	{
+		file.writeShort(access);
+		file.writeShort(name);
+		file.writeShort(type);
+		file.writeShort(1);
+
+		file.writeShort(attr);
+		file.writeInt(12 + body.length());
+		file.writeShort(body.maxStack());
+		file.writeShort(locals);
+		file.writeInt(body.length());
+		file.writeBytes(body);
+		file.writeShort(0);
+		file.writeShort(0);
+	}
+
+
+	/**
+	 * The {@code Code} class is a growable byte buffer
+	 * which tracks the operand stack depth of the bytecode written to it.
+	 */
+	private static class Code
+	{
+		private byte[] bytes;
+		private int length, depth, max;
+
+		public Code()
+		{
+			bytes = new byte[256];
+		}
+
+
+		public void write(int opcode, int delta)
+		{
+			writeByte(opcode);
+			depth += delta;
+			max = Math.max(max, depth);
+		}
+
+		public void writeByte(int val)
+		{
+			if(length == bytes.length)
+			{
+				bytes = Arrays.copyOf(bytes, 2 * length);
+			}
+
+			bytes[length++] = (byte) val;
+		}
+
+		public void writeShort(int val)
+		{
+			writeByte(val >>> 8);
+			writeByte(val);
+		}
+
+		public void writeInt(int val)
+		{
+			writeShort(val >>> 16);
+			writeShort(val);
+		}
+
+		public void writeLong(long val)
+		{
+			writeInt((int) (val >>> 32));
+			writeInt((int) val);
+		}
+
+		public void writeBytes(Code code)
+		{
+			for(int i = 0; i < code.length; i++)
+			{
+				writeByte(code.bytes[i]);
+			}
+		}
+
+
+		public byte[] toArray()
+		{
+			return Arrays.copyOf(bytes, length);
+		}
+
+		public int maxStack()
+		{
+			return max;
+		}
+
+		public int length()
+		{
+			return length;
+		}
+	}
+
+	/**
+	 * The {@code ConstantPool} class collects the constants of a class file.
+	 */
+	private static class ConstantPool
+	{
+		private Map<String, Integer> indices;
+		private Code entries;
+		private int count;
+
+		public ConstantPool()
+		{
+			indices = new HashMap<>();
+			entries = new Code();
+			count = 1;
+		}
+
+
+		public int text(String val)
+		{
+			Integer index = indices.get("T" + val);
+			if(index != null)
+			{
+				return index;
+			}
+
+			entries.writeByte(1);
+			entries.writeShort(val.length());
+			for(int i = 0; i < val.length(); i++)
+			{
+				entries.writeByte(val.charAt(i));
+			}
+
+			return add("T" + val, 1);
+		}
+
+		public int type(String name)
+		{
+			Integer index = indices.get("C" + name);
+			if(index != null)
+			{
+				return index;
+			}
+
+			int text = text(name);
+			entries.writeByte(7);
+			entries.writeShort(text);
+			return add("C" + name, 1);
+		}
+
+		public int integer(int val)
+		{
+			Integer index = indices.get("I" + val);
+			if(index != null)
+			{
+				return index;
+			}
+
+			entries.writeByte(3);
+			entries.writeInt(val);
+			return add("I" + val, 1);
+		}
+
+		public int value(double val)
+		{
+			long bits = Double.doubleToRawLongBits(val);
+			Integer index = indices.get("D" + bits);
+			if(index != null)
+			{
+				return index;
+			}
+
+			entries.writeByte(6);
+			entries.writeLong(bits);
+			return add("D" + bits, 2);
+		}
+
+		public int field(String owner, String name, String type)
+		{
+			return member(9, owner, name, type);
+		}
+
+		public int method(String owner, String name, String type)
+		{
+			return member(10, owner, name, type);
+		}
+
+		public int interfaceMethod(String owner, String name, String type)
+		{
+			return member(11, owner, name, type);
+		}
+
+
+		public void writeTo(Code file)
+		{
+			file.writeShort(count);
+			file.writeBytes(entries);
+		}
+
+		private int member(int tag, String owner, String name, String type)
+		{
+			String key = tag + owner + "." + name + ":" + type;
+			Integer index = indices.get(key);
+			if(index != null)
+			{
+				return index;
+			}
+
+			int nameType = nameType(name, type);
+			int ownerType = type(owner);
+			entries.writeByte(tag);
+			entries.writeShort(ownerType);
+			entries.writeShort(nameType);
+			return add(key, 1);
+		}
+
+		private int nameType(String name, String type)
+		{
+			String key = "N" + name + ":" + type;
+			Integer index = indices.get(key);
+			if(index != null)
+			{
+				return index;
+			}
+
+			int nameText = text(name);
+			int typeText = text(type);
+			entries.writeByte(12);
+			entries.writeShort(nameText);
+			entries.writeShort(typeText);
+			return add(key, 1);
+		}
+
+		private int add(String key, int size)
+		{
+			int index = count;
+			indices.put(key, index);
+			count += size;
+			return index;
+		}
+	}
+}
@@ -0,0 +1,241 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Argument;
+import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.Operator;
+import zeno.util.calc.variables.functions.Constant;
+import zeno.util.calc.variables.functions.Polynomial;
+
+/**
+ * The {@code Interner} class shares structurally identical nodes between {@code Variable} trees.
+ * <br> Interning a tree returns an equivalent tree in which every node is replaced by a canonical instance.
+ * Constants are identical if they have the same value, arguments if they have the same name,
+ * and polynomials if they have the same cofficients. Functions are identical if they have
+ * the same operator and identical operands, and substitutions if they have the same body
+ * and identical operands in the same slots. Any other variable is only identical to itself.
+ * <br> Interned trees are directed acyclic graphs, which take up less memory than the original trees
+ * when subtrees repeat. A {@link DagEvaluator} evaluates each shared node once per evaluation.
+ * <br> An {@code Interner} keeps its canonical nodes between calls, so trees interned by the same
+ * {@code Interner} share nodes with each other. It is not safe for use by multiple threads.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Hash_consing">Hash Consing</a>
+ * @see DagEvaluator
+ * @see Variable
+ */
+public final class Interner
+{
+	private Map<Node, Variable> nodes;
+	private Set<Variable> canon;
+
+	/**
+	 * Creates a new {@code Interner}.
+	 */
+	public Interner()
+	{
+		nodes = new HashMap<>();
+		canon = Collections.newSetFromMap(new IdentityHashMap<>());
+	}
+
+
+	/**
+	 * Interns a {@code Variable} tree.
+	 * 
+	 * @param var  a variable to intern
+	 * @return  the canonical variable
+	 * @see Variable
+	 */
+	public Variable intern(Variable var)
+	{
+		return intern(var, new IdentityHashMap<>());
+	}
+
+	/**
+	 * Returns the node count of the {@code Interner}.
+	 * 
+	 * @return  the interner's canonical node count
+	 */
+	public int Size()
+	{
+		return nodes.size();
+	}
+
+	/**
+	 * Clears the canonical nodes of the {@code Interner}.
+	 */
+	public void clear()
+	{
+		nodes.clear();
+		canon.clear();
+	}
+
+
+	private Variable intern(Variable var, Map<Variable, Variable> seen)
+	{
+		if(canon.contains(var))
+		{
+			return var;
+		}
+
+		Variable result = seen.get(var);
+		if(result != null)
+		{
+			return result;
+		}
+
+		Node key;
+		Variable node = var;
+		if(var instanceof Function && ((Function) var).Operator() != null)
+		{
+			Function func = (Function) var;
+			Operator op = func.Operator();
+			Variable[] vars = func.Operands();
+
+			boolean isChanged = false;
+			for(int i = 0; i < vars.length; i++)
+			{
+				Variable next = intern(vars[i], seen);
+				isChanged |= next != vars[i];
+				vars[i] = next;
+			}
+
+			key = new Node(op, null, vars);
+			if(isChanged && !nodes.containsKey(key))
+			{
+				node = Simplifier.rebuild(op, vars);
+			}
+		}
+		else if(var instanceof Substitution)
+		{
+			Substitution sub = (Substitution) var;
+			Variable[] vars = sub.Operands();
+			int[] slots = sub.Slots();
+
+			boolean isChanged = false;
+			double[] vals = new double[slots.length];
+			for(int i = 0; i < vars.length; i++)
+			{
+				Variable next = intern(vars[i], seen);
+				isChanged |= next != vars[i];
+				vars[i] = next;
+				vals[i] = slots[i];
+			}
+
+			// The body is not interned, so it is compared by identity.
+			key = new Node(sub.Body(), vals, vars);
+			if(isChanged && !nodes.containsKey(key))
+			{
+				node = new Substitution(sub.Body(), sub.Parameters(), vars, slots);
+			}
+		}
+		else if(var instanceof Constant)
+		{
+			key = new Node(Constant.class, new double[]{((Constant) var).Value()}, null);
+		}
+		else if(var instanceof Argument)
+		{
+			key = new Node(var.toString(), null, null);
+		}
+		else if(var instanceof Polynomial)
+		{
+			key = new Node(Polynomial.class, ((Polynomial) var).Coefficients(), null);
+		}
+		else
+		{
+			key = new Node(var, null, null);
+		}
+
+		result = nodes.putIfAbsent(key, node);
+		if(result == null)
+		{
+			result = node;
+			canon.add(node);
+		}
+
+		seen.put(var, result);
+		return result;
+	}
+
+
+	private static final class Node
+	{
+		private Object tag;
+		private double[] vals;
+		private Variable[] vars;
+		private int hash;
+
+		public Node(Object tag, double[] vals, Variable[] vars)
+		{
+			this.tag = tag;
+			this.vals = vals;
+			this.vars = vars;
+
+			// Operands are canonical, so they are hashed by identity.
+			hash = tag.hashCode() * 31 + Arrays.hashCode(vals);
+			if(vars != null)
+			{
+				for(Variable var : vars)
+				{
+					hash = hash * 31 + System.identityHashCode(var);
+				}
+			}
+		}
+
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if(!(obj instanceof Node))
+			{
+				return false;
+			}
+
+			Node node = (Node) obj;
+			if(hash != node.hash || !tag.equals(node.tag))
+			{
+				return false;
+			}
+
+			if(!Arrays.equals(vals, node.vals))
+			{
+				return false;
+			}
+
+			if(vars == null || node.vars == null)
+			{
+				return vars == node.vars;
+			}
+
+			if(vars.length != node.vars.length)
+			{
+				return false;
+			}
+
+			for(int i = 0; i < vars.length; i++)
+			{
+				if(vars[i] != node.vars[i])
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+	}
+}
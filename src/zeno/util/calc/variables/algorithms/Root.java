@@ -0,0 +1,79 @@
+package zeno.util.calc.variables.algorithms;
+
+import zeno.util.algebra.tensors.vectors.complex.Complex;
+
+/**
+ * The {@code Root} class defines a complex polynomial root in double precision.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see RootFinder
+ */
+public class Root
+{
+	private double real, imag;
+
+	/**
+	 * Creates a new {@code Root}.
+	 * 
+	 * @param real  the root's real part
+	 * @param imag  the root's imaginary part
+	 */
+	public Root(double real, double imag)
+	{
+		this.real = real;
+		this.imag = imag;
+	}
+
+
+	/**
+	 * Converts the {@code Root} to a single precision {@code Complex}.
+	 * 
+	 * @return  a complex root
+	 * @see Complex
+	 */
+	public Complex toComplex()
+	{
+		return new Complex((float) real, (float) imag);
+	}
+
+	/**
+	 * Returns the imaginary part of the {@code Root}.
+	 * 
+	 * @return  the root's imaginary part
+	 */
+	public double Imaginary()
+	{
+		return imag;
+	}
+
+	/**
+	 * Returns the real part of the {@code Root}.
+	 * 
+	 * @return  the root's real part
+	 */
+	public double Real()
+	{
+		return real;
+	}
+
+	/**
+	 * Indicates if the {@code Root} is real.
+	 * 
+	 * @return  {@code true} if the root is real
+	 */
+	public boolean isReal()
+	{
+		return imag == 0;
+	}
+
+
+	@Override
+	public String toString()
+	{
+		if(imag < 0)
+			return real + " - " + (-imag) + "i";
+		return real + " + " + imag + "i";
+	}
+}
@@ -0,0 +1,87 @@
+package zeno.util.calc.variables.algorithms;
+
+/**
+ * The {@code RootBatch} class holds the complex roots of a list of polynomials.
+ * <br> The roots are stored in flat primitive arrays of real and imaginary parts.
+ * The roots of the i-th polynomial are found from index {@code Offsets()[i]}
+ * up to index {@code Offsets()[i+1]}.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see RootFinder
+ */
+public class RootBatch
+{
+	private int[] offsets;
+	private double[] real, imag;
+
+	/**
+	 * Creates a new {@code RootBatch}.
+	 * 
+	 * @param real  the roots' real parts
+	 * @param imag  the roots' imaginary parts
+	 * @param offsets  the first root index of each polynomial
+	 */
+	public RootBatch(double[] real, double[] imag, int[] offsets)
+	{
+		this.offsets = offsets;
+		this.real = real;
+		this.imag = imag;
+	}
+
+
+	/**
+	 * Returns the root count of a polynomial in the {@code RootBatch}.
+	 * 
+	 * @param poly  the polynomial's index
+	 * @return  the polynomial's root count
+	 */
+	public int Count(int poly)
+	{
+		return offsets[poly + 1] - offsets[poly];
+	}
+
+	/**
+	 * Returns the polynomial count of the {@code RootBatch}.
+	 * 
+	 * @return  the batch's polynomial count
+	 */
+	public int Size()
+	{
+		return offsets.length - 1;
+	}
+
+	/**
+	 * Returns the root offsets of the {@code RootBatch}.
+	 * <br> The array is not copied, and has one more element than the batch's size.
+	 * 
+	 * @return  the first root index of each polynomial
+	 */
+	public int[] Offsets()
+	{
+		return offsets;
+	}
+
+	/**
+	 * Returns the imaginary parts of the {@code RootBatch}.
+	 * <br> The array is not copied.
+	 * 
+	 * @return  the roots' imaginary parts
+	 */
+	public double[] Imaginary()
+	{
+		return imag;
+	}
+
+	/**
+	 * Returns the real parts of the {@code RootBatch}.
+	 * <br> The array is not copied.
+	 * 
+	 * @return  the roots' real parts
+	 */
+	public double[] Real()
+	{
+		return real;
+	}
+}
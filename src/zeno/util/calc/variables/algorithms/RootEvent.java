@@ -0,0 +1,88 @@
+package zeno.util.calc.variables.algorithms;
+
+import zeno.util.calc.variables.functions.Polynomial;
+
+/**
+ * The {@code RootEvent} class describes a quadratic divisor found by a {@code RootFinder}.
+ * <br> The divisor is of the form {@code x^2 + u.x + v}.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see RootListener
+ * @see RootFinder
+ */
+public class RootEvent
+{
+	private int degree, iterations;
+	private double residual, u, v;
+
+	/**
+	 * Creates a new {@code RootEvent}.
+	 * 
+	 * @param degree  the degree of the divided polynomial
+	 * @param iterations  the iteration count
+	 * @param residual  the remainder of the last iteration
+	 * @param u  the divisor's linear cofficient
+	 * @param v  the divisor's constant cofficient
+	 */
+	public RootEvent(int degree, int iterations, double residual, double u, double v)
+	{
+		this.degree = degree;
+		this.iterations = iterations;
+		this.residual = residual;
+		this.u = u;
+		this.v = v;
+	}
+
+
+	/**
+	 * Returns the divisor of the {@code RootEvent}.
+	 * 
+	 * @return  the quadratic divisor
+	 * @see Polynomial
+	 */
+	public Polynomial Divisor()
+	{
+		return new Polynomial(1, u, v);
+	}
+
+	/**
+	 * Returns the residual of the {@code RootEvent}.
+	 * <br> The residual is the sum of the absolute remainder cofficients
+	 * left by the divisor of the last iteration.
+	 * 
+	 * @return  the divisor's residual
+	 */
+	public double Residual()
+	{
+		return residual;
+	}
+
+	/**
+	 * Returns the iteration count of the {@code RootEvent}.
+	 * 
+	 * @return  the iteration count
+	 */
+	public int Iterations()
+	{
+		return iterations;
+	}
+
+	/**
+	 * Returns the degree of the divided polynomial.
+	 * 
+	 * @return  the polynomial's degree
+	 */
+	public int Degree()
+	{
+		return degree;
+	}
+
+
+	@Override
+	public String toString()
+	{
+		return "Divisor: " + Divisor() + " (" + iterations + " iterations, residual " + residual + ")";
+	}
+}
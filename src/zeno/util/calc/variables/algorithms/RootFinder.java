@@ -1,7 +1,10 @@
 package zeno.util.calc.variables.algorithms;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import zeno.util.algebra.tensors.vectors.complex.Complex;
 import zeno.util.calc.variables.functions.Polynomial;
@@ -12,7 +15,9 @@ import zeno.util.tools.primitives.Doubles;
 /**
  * The {@code RootFinder} class uses {@code Bairstow's method}
  * to calculate roots of a {@code Polynomial}.
- *
+ * <br> A {@code RootFinder} keeps its working state on the stack of each call,
+ * so a single instance can be shared between threads.
+ * 
  * @since May 5, 2016
  * @author Zeno
  * 
@@ -22,20 +27,38 @@ import zeno.util.tools.primitives.Doubles;
 public class RootFinder extends Messenger
 {
 	private static final int DEF_ITERATIONS = 1024;
+	private static final double DEF_TOLERANCE = 1e-12;
 	
 	
-	private Polynomial poly;
-	private List<Complex> roots;
 	private final int maxiterations;
+	private final double abstol, reltol;
+	private volatile RootListener listener;
+	private volatile boolean isVerbose;
 	
 	/**
 	 * Creates a new {@code RootFinder}.
+	 * <br> Bairstow's method stops once both divisor corrections are within
+	 * the absolute tolerance plus the relative tolerance of their cofficient.
 	 * 
 	 * @param iterations  a max iteration count
+	 * @param abstol  an absolute tolerance
+	 * @param reltol  a relative tolerance
 	 */
-	public RootFinder(int iterations)
+	public RootFinder(int iterations, double abstol, double reltol)
 	{
 		maxiterations = iterations;
+		this.abstol = abstol;
+		this.reltol = reltol;
+	}
+	
+	/**
+	 * Creates a new {@code RootFinder}.
+	 * 
+	 * @param iterations  a max iteration count
+	 */
+	public RootFinder(int iterations)
+	{
+		this(iterations, DEF_TOLERANCE, DEF_TOLERANCE);
 	}
 	
 	/**
@@ -47,6 +70,31 @@ public class RootFinder extends Messenger
 	}
 	
 	
+	/**
+	 * Changes the listener of the {@code RootFinder}.
+	 * <br> The listener receives an event for each divisor found with Bairstow's method.
+	 * No events are created while the listener is {@code null}.
+	 * 
+	 * @param listener  a root listener, or {@code null}
+	 * @see RootListener
+	 */
+	public void setListener(RootListener listener)
+	{
+		this.listener = listener;
+	}
+	
+	/**
+	 * Changes the verbosity of the {@code RootFinder}.
+	 * <br> Messages are only formatted and sent while the finder is verbose.
+	 * 
+	 * @param isVerbose  {@code true} to send messages
+	 */
+	public void setVerbose(boolean isVerbose)
+	{
+		this.isVerbose = isVerbose;
+	}
+	
+	
 	/**
 	 * Finds the real roots of a {@code Polynomial}.
 	 * 
@@ -56,11 +104,11 @@ public class RootFinder extends Messenger
 	 */
 	public float[] findRealRoots(Polynomial p)
 	{
-		findRoots(p);
+		List<Root> roots = solve(p, RootMethod.BAIRSTOW);
 		
 		for(int i = 0; i < roots.size(); i++)
 		{
-			Complex root = roots.get(i);
+			Root root = roots.get(i);
 			if(!root.isReal())
 			{
 				roots.remove(i);
@@ -71,13 +119,30 @@ public class RootFinder extends Messenger
 		float[] array = new float[roots.size()];
 		for(int i = 0; i < roots.size(); i++)
 		{
-			Complex root = roots.get(i);
-			array[i] = root.Real();
+			Root root = roots.get(i);
+			array[i] = (float) root.Real();
 		}
 		
 		return array;
 	}
 
+	/**
+	 * Finds the real roots of a {@code Polynomial} in an interval.
+	 * <br> The roots are isolated with a Sturm sequence and refined with Newton's method,
+	 * without computing any complex roots. Multiple roots are only returned once.
+	 * The bounds may be infinite, so {@code (-inf, inf)} finds every real root.
+	 * 
+	 * @param p  a polynomial to check
+	 * @param lo  the interval's lower bound
+	 * @param hi  the interval's upper bound
+	 * @return  the polynomial's real roots, in ascending order
+	 * @see Polynomial
+	 */
+	public double[] findRealRoots(Polynomial p, double lo, double hi)
+	{
+		return SturmSolver.solve(p.Coefficients(), lo, hi, maxiterations, abstol, reltol);
+	}
+
 	/**
 	 * Finds the complex roots of a {@code Polynomial}.
 	 * 
@@ -88,21 +153,165 @@ public class RootFinder extends Messenger
 	 */
 	public Complex[] findComplexRoots(Polynomial p)
 	{
-		findRoots(p);
+		return findComplexRoots(p, RootMethod.BAIRSTOW);
+	}
+
+	/**
+	 * Finds the complex roots of a {@code Polynomial}.
+	 * 
+	 * @param p  a polynomial to check
+	 * @param method  a root finding method
+	 * @return  the polynomial's complex roots
+	 * @see RootMethod
+	 * @see Polynomial
+	 * @see Complex
+	 */
+	public Complex[] findComplexRoots(Polynomial p, RootMethod method)
+	{
+		List<Root> roots = solve(p, method);
 		
 		Complex[] array = new Complex[roots.size()];
 		for(int i = 0; i < roots.size(); i++)
 		{
-			array[i] = roots.get(i);
+			array[i] = roots.get(i).toComplex();
 		}
 		
 		return array;
 	}
-		
-	
-	private void findQuadratic(Polynomial p)
+
+	/**
+	 * Finds the roots of a {@code Polynomial} in double precision.
+	 * 
+	 * @param p  a polynomial to check
+	 * @return  the polynomial's roots
+	 * @see Polynomial
+	 * @see Root
+	 */
+	public Root[] findRoots(Polynomial p)
+	{
+		return findRoots(p, RootMethod.BAIRSTOW);
+	}
+
+	/**
+	 * Finds the roots of a {@code Polynomial} in double precision.
+	 * 
+	 * @param p  a polynomial to check
+	 * @param method  a root finding method
+	 * @return  the polynomial's roots
+	 * @see RootMethod
+	 * @see Polynomial
+	 * @see Root
+	 */
+	public Root[] findRoots(Polynomial p, RootMethod method)
+	{
+		List<Root> roots = solve(p, method);
+		return roots.toArray(new Root[roots.size()]);
+	}
+
+	/**
+	 * Finds the roots of a {@code Polynomial} from initial guesses.
+	 * <br> The guesses are refined with the Aberth-Ehrlich method, and the roots
+	 * are returned in the order of their guesses. Guesses close to the roots
+	 * converge in a few iterations. If there is not one guess for each root,
+	 * the guesses are ignored.
+	 * 
+	 * @param p  a polynomial to check
+	 * @param guesses  the roots' initial guesses
+	 * @return  the polynomial's roots
+	 * @see RootTracker
+	 * @see Polynomial
+	 * @see Root
+	 */
+	public Root[] findRoots(Polynomial p, Root[] guesses)
 	{
-		sendMessage("Solving a second degree polynomial: " + p);
+		List<Root> roots = AberthSolver.solve(p.Coefficients(), guesses, maxiterations, abstol, reltol);
+		return roots.toArray(new Root[roots.size()]);
+	}
+
+	/**
+	 * Finds the complex roots of a list of {@code Polynomials}.
+	 * <br> The polynomials are divided over the common {@code ForkJoinPool}.
+	 * 
+	 * @param polys  a list of polynomials to check
+	 * @return  the polynomials' complex roots
+	 * @see Polynomial
+	 * @see RootBatch
+	 */
+	public RootBatch findAll(List<Polynomial> polys)
+	{
+		return findAll(polys.toArray(new Polynomial[polys.size()]));
+	}
+
+	/**
+	 * Finds the complex roots of a list of {@code Polynomials}.
+	 * <br> The polynomials are divided over the common {@code ForkJoinPool}.
+	 * 
+	 * @param polys  a list of polynomials to check
+	 * @return  the polynomials' complex roots
+	 * @see Polynomial
+	 * @see RootBatch
+	 */
+	public RootBatch findAll(Polynomial... polys)
+	{
+		return findAll(RootMethod.BAIRSTOW, polys);
+	}
+
+	/**
+	 * Finds the complex roots of a list of {@code Polynomials}.
+	 * <br> The polynomials are divided over the common {@code ForkJoinPool}.
+	 * 
+	 * @param method  a root finding method
+	 * @param polys  a list of polynomials to check
+	 * @return  the polynomials' complex roots
+	 * @see RootMethod
+	 * @see Polynomial
+	 * @see RootBatch
+	 */
+	public RootBatch findAll(RootMethod method, Polynomial... polys)
+	{
+		// Reserve a slot for each possible root.
+		long total = 0;
+		int[] slots = new int[polys.length + 1];
+		for(int i = 0; i < polys.length; i++)
+		{
+			slots[i] = (int) total;
+			total += Math.max(polys[i].Degree(), 0);
+			if(total > Integer.MAX_VALUE - 8)
+			{
+				throw new IllegalArgumentException("The polynomials have too many roots for a single batch.");
+			}
+		}
+
+		slots[polys.length] = (int) total;
+
+
+		double[] real = new double[(int) total];
+		double[] imag = new double[(int) total];
+		int[] counts = new int[polys.length];
+
+		Search search = new Search(method, polys, slots, counts, real, imag, 0, polys.length);
+		ForkJoinPool.commonPool().invoke(search);
+
+
+		// Compact the reserved slots.
+		int[] offsets = new int[polys.length + 1];
+		for(int i = 0; i < polys.length; i++)
+		{
+			offsets[i + 1] = offsets[i] + counts[i];
+			System.arraycopy(real, slots[i], real, offsets[i], counts[i]);
+			System.arraycopy(imag, slots[i], imag, offsets[i], counts[i]);
+		}
+
+		int size = offsets[polys.length];
+		real = Arrays.copyOf(real, size);
+		imag = Arrays.copyOf(imag, size);
+		return new RootBatch(real, imag, offsets);
+	}
+
+
+	private void findQuadratic(Polynomial p, List<Root> roots)
+	{
+		if(isVerbose) sendMessage("Solving a second degree polynomial: " + p);
 		
 		double c = p.Coefficient(0);
 		double b = p.Coefficient(1);
@@ -125,13 +334,13 @@ public class RootFinder extends Messenger
 			double val = -c / a;
 			if(val > 0)
 			{
-				float val1 = (float) -Doubles.sqrt(val);
-				float val2 = (float)  Doubles.sqrt(val);
+				double val1 = -Doubles.sqrt(val);
+				double val2 = Doubles.sqrt(val);
 				
-				Complex root1 = new Complex(val1, 0);
-				Complex root2 = new Complex(val2, 0);
-				sendMessage("Found root: " + root1);
-				sendMessage("Found root: " + root2);
+				Root root1 = new Root(val1, 0);
+				Root root2 = new Root(val2, 0);
+				if(isVerbose) sendMessage("Found root: " + root1);
+				if(isVerbose) sendMessage("Found root: " + root2);
 				roots.add(root1);
 				roots.add(root2);
 				return;
@@ -139,13 +348,13 @@ public class RootFinder extends Messenger
 			
 			// Pure imaginary roots.
 			
-			float val1 = (float) -Doubles.sqrt(-val);
-			float val2 = (float)  Doubles.sqrt(-val);
+			double val1 = -Doubles.sqrt(-val);
+			double val2 = Doubles.sqrt(-val);
 			
-			Complex root1 = new Complex(0, val1);
-			Complex root2 = new Complex(0, val2);
-			sendMessage("Found root: " + root1);
-			sendMessage("Found root: " + root2);
+			Root root1 = new Root(0, val1);
+			Root root2 = new Root(0, val2);
+			if(isVerbose) sendMessage("Found root: " + root1);
+			if(isVerbose) sendMessage("Found root: " + root2);
 			roots.add(root1);
 			roots.add(root2);
 			return;
@@ -153,14 +362,14 @@ public class RootFinder extends Messenger
 		
 				
 		double disc = b * b - 4 * a * c;
-		sendMessage("Discriminant: " + disc);
+		if(isVerbose) sendMessage("Discriminant: " + disc);
 		
 		if(disc == 0)
 		{
-			float val = (float) (-b / (2 * a));
+			double val = (-b / (2 * a));
 			
-			Complex root = new Complex(val, 0);
-			sendMessage("Found root: " + root);
+			Root root = new Root(val, 0);
+			if(isVerbose) sendMessage("Found root: " + root);
 			roots.add(root);
 			return;
 		}
@@ -168,48 +377,69 @@ public class RootFinder extends Messenger
 		if(disc > 0)
 		{
 			double sqrt = Doubles.sign(b) * Doubles.sqrt(disc);
-			float val1 = (float) (-(b + sqrt) / (2 * a));
-			float val2 = (float) (c / (a * val1));
+			double val1 = (-(b + sqrt) / (2 * a));
+			double val2 = (c / (a * val1));
 			
-			Complex root1 = new Complex(val1, 0);
-			Complex root2 = new Complex(val2, 0);
-			sendMessage("Found root: " + root1);
-			sendMessage("Found root: " + root2);
+			Root root1 = new Root(val1, 0);
+			Root root2 = new Root(val2, 0);
+			if(isVerbose) sendMessage("Found root: " + root1);
+			if(isVerbose) sendMessage("Found root: " + root2);
 			roots.add(root1);
 			roots.add(root2);
 			return;
 		}
 		
 		double sqrt = Doubles.sqrt(-disc);
-		float ima1 = (float) (-sqrt / (2 * a));
-		float ima2 = (float) ( sqrt / (2 * a));
-		float real = (float) (   -b / (2 * a));
+		double ima1 = (-sqrt / (2 * a));
+		double ima2 = ( sqrt / (2 * a));
+		double real = (   -b / (2 * a));
 		
-		Complex root1 = new Complex(real, ima1);
-		Complex root2 = new Complex(real, ima2);
-		sendMessage("Found root: " + root1);
-		sendMessage("Found root: " + root2);
+		Root root1 = new Root(real, ima1);
+		Root root2 = new Root(real, ima2);
+		if(isVerbose) sendMessage("Found root: " + root1);
+		if(isVerbose) sendMessage("Found root: " + root2);
 		roots.add(root1);
 		roots.add(root2);
 		return;
 	}
 
-	private void findLinear(Polynomial p)
+	private void findLinear(Polynomial p, List<Root> roots)
 	{
-		sendMessage("Solving first degree polynomial: " + p);
+		if(isVerbose) sendMessage("Solving first degree polynomial: " + p);
 		
-		float coef0 = (float) p.Coefficient(0);
-		float coef1 = (float) p.Coefficient(1);
-		float val = - coef0 / coef1;
+		double coef0 = p.Coefficient(0);
+		double coef1 = p.Coefficient(1);
+		double val = - coef0 / coef1;
 		
-		Complex root = new Complex(val, 0);
-		sendMessage("Found root: " + root);
+		Root root = new Root(val, 0);
+		if(isVerbose) sendMessage("Found root: " + root);
 		roots.add(root);
 	}
 	
-	private void findHigher(Polynomial p)
+	private void findAnalytic(Polynomial p, List<Root> roots)
+	{
+		if(isVerbose) sendMessage("Solving polynomial in closed form: " + p);
+		
+		double[] re = new double[4];
+		double[] im = new double[4];
+		
+		int count = AnalyticSolver.quartic
+		(
+			p.Coefficient(4), p.Coefficient(3), p.Coefficient(2),
+			p.Coefficient(1), p.Coefficient(0), re, im
+		);
+		
+		for(int i = 0; i < count; i++)
+		{
+			Root root = new Root(re[i], im[i]);
+			if(isVerbose) sendMessage("Found root: " + root);
+			roots.add(root);
+		}
+	}
+	
+	private Polynomial findHigher(Polynomial p, List<Root> roots)
 	{				
-		sendMessage("Solving higher degree polynomial: " + p);
+		if(isVerbose) sendMessage("Solving higher degree polynomial: " + p);
 		
 		int deg = p.Degree();
 		double[] coef = p.Coefficients();
@@ -228,6 +458,8 @@ public class RootFinder extends Messenger
 		if(v == 0) v = 1;
 		
 		
+		int iterations = 0;
+		double residual = 0;
 		for(int i = 0; i < maxiterations; i++)
 		{
 			// Approximate quotients.
@@ -260,44 +492,135 @@ public class RootFinder extends Messenger
 			u += uErr;
 			v += vErr;
 
+			iterations = i + 1;
+			residual = Doubles.abs(c) + Doubles.abs(d);
+
 			// Check last error margin.
-			if(uErr == 0 && vErr == 0)
+			if(Doubles.abs(uErr) <= abstol + reltol * Doubles.abs(u)
+			&& Doubles.abs(vErr) <= abstol + reltol * Doubles.abs(v))
 			{
-				sendMessage("Iterations: " + i);
+				if(isVerbose) sendMessage("Iterations: " + i);
 				break;
 			}
 		}
 
 		
 		Polynomial result = new Polynomial(1, u, v);
-		poly = new Polynomial(Array.reverse.of(bArr));
+		Polynomial poly = new Polynomial(Array.reverse.of(bArr));
 		
-		sendMessage("Divisor: " + result);
-		sendMessage("Remainder: " + poly);
+		if(isVerbose) sendMessage("Divisor: " + result);
+		if(isVerbose) sendMessage("Remainder: " + poly);
 		
-		findQuadratic(result);
+		RootListener l = listener;
+		if(l != null)
+		{
+			l.onDivisor(new RootEvent(deg, iterations, residual, u, v));
+		}
+		
+		findQuadratic(result, roots);
+		return poly;
+	}
+
+	private List<Root> solve(Polynomial p, RootMethod method)
+	{
+		switch(method)
+		{
+		case ABERTH:
+			return AberthSolver.solve(p.Coefficients(), maxiterations, abstol, reltol);
+		case COMPANION:
+			return CompanionSolver.local().solve(p.Coefficients(), maxiterations);
+		default:
+			return findBairstow(p);
+		}
 	}
 
-	private void findRoots(Polynomial p)
+	private List<Root> findBairstow(Polynomial p)
 	{
-		poly = p.copy();
-		roots = new ArrayList<>();
+		Polynomial poly = p.copy();
+		List<Root> roots = new ArrayList<>();
 		
 		while(poly.Degree() > 0)
 		{
 			if(poly.Degree() == 1)
 			{
-				findLinear(poly);
+				findLinear(poly, roots);
 				break;
 			}
 			
 			if(poly.Degree() == 2)
 			{
-				findQuadratic(poly);
+				findQuadratic(poly, roots);
 				break;
 			}
+			
+			if(poly.Degree() <= 4)
+			{
+				findAnalytic(poly, roots);
+				break;
+			}
+
+			poly = findHigher(poly, roots);
+		}
 
-			findHigher(poly);
+		return roots;
+	}
+
+
+	/**
+	 * The {@code Search} class finds the roots of a range of polynomials in a batch.
+	 */
+	private class Search extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		private static final int THRESHOLD = 64;
+
+
+		private RootMethod method;
+		private Polynomial[] polys;
+		private int[] slots, counts;
+		private double[] real, imag;
+		private int min, max;
+
+		public Search(RootMethod method, Polynomial[] polys, int[] slots, int[] counts, double[] real, double[] imag, int min, int max)
+		{
+			this.method = method;
+			this.polys = polys;
+			this.slots = slots;
+			this.counts = counts;
+			this.real = real;
+			this.imag = imag;
+			this.min = min;
+			this.max = max;
+		}
+
+
+		@Override
+		protected void compute()
+		{
+			if(max - min > THRESHOLD)
+			{
+				int mid = (min + max) >>> 1;
+				invokeAll
+				(
+					new Search(method, polys, slots, counts, real, imag, min, mid),
+					new Search(method, polys, slots, counts, real, imag, mid, max)
+				);
+
+				return;
+			}
+
+			for(int i = min; i < max; i++)
+			{
+				List<Root> roots = solve(polys[i], method);
+				for(int j = 0; j < roots.size(); j++)
+				{
+					Root root = roots.get(j);
+					real[slots[i] + j] = root.Real();
+					imag[slots[i] + j] = root.Imaginary();
+				}
+
+				counts[i] = roots.size();
+			}
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package zeno.util.calc.variables.algorithms;
+
+/**
+ * The {@code RootListener} interface receives the events of a {@code RootFinder}.
+ * <br> A listener can be called from several threads at once
+ * when its finder is shared between threads.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see RootFinder
+ * @see RootEvent
+ */
+@FunctionalInterface
+public interface RootListener
+{
+	/**
+	 * Receives a divisor found by a {@code RootFinder}.
+	 * 
+	 * @param event  the divisor event
+	 * @see RootEvent
+	 */
+	public abstract void onDivisor(RootEvent event);
+}
@@ -0,0 +1,30 @@
+package zeno.util.calc.variables.algorithms;
+
+/**
+ * The {@code RootMethod} enum defines the strategies of a {@code RootFinder}.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see RootFinder
+ */
+public enum RootMethod
+{
+	/**
+	 * Bairstow's method divides out one quadratic factor at a time.
+	 * <br> It is fast for low degrees, but its deflation is sequential
+	 * and accumulates error at high degrees.
+	 */
+	BAIRSTOW,
+	/**
+	 * The Aberth-Ehrlich method refines all roots at once with cubic convergence.
+	 * <br> Its iterations are divided over threads for high degrees.
+	 */
+	ABERTH,
+	/**
+	 * The companion method finds the eigenvalues of the polynomial's companion matrix.
+	 * <br> It is robust for ill-conditioned and high degree polynomials,
+	 * but its cost grows with the cube of the degree.
+	 */
+	COMPANION;
+}
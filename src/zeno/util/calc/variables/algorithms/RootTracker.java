@@ -0,0 +1,99 @@
+package zeno.util.calc.variables.algorithms;
+
+import zeno.util.calc.variables.functions.Polynomial;
+
+/**
+ * The {@code RootTracker} class follows the roots of a family of polynomials.
+ * <br> The polynomials are expected to change smoothly between calls, for instance
+ * over the time steps of a simulation. Each call starts from the roots of the last one,
+ * so most calls converge in a few iterations. The roots keep their order between calls,
+ * which means the i-th root of each call continues the i-th root of the last.
+ * <br> A {@code RootTracker} is not safe for use by multiple threads.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see RootFinder
+ * @see Root
+ */
+public class RootTracker
+{
+	private RootFinder finder;
+	private Root[] roots;
+	
+	/**
+	 * Creates a new {@code RootTracker}.
+	 * 
+	 * @param finder  a root finder
+	 * @see RootFinder
+	 */
+	public RootTracker(RootFinder finder)
+	{
+		this.finder = finder;
+	}
+	
+	/**
+	 * Creates a new {@code RootTracker}.
+	 */
+	public RootTracker()
+	{
+		this(new RootFinder());
+	}
+	
+	
+	/**
+	 * Finds the roots of the next {@code Polynomial} in the family.
+	 * <br> The search starts over if the degree has changed,
+	 * or if the last roots were not all found. If the warm search
+	 * does not find every root, it is retried without a start.
+	 * 
+	 * @param p  a polynomial to check
+	 * @return  the polynomial's roots
+	 * @see Polynomial
+	 */
+	public Root[] track(Polynomial p)
+	{
+		Root[] result = finder.findRoots(p, roots);
+		if(roots != null && !isFinite(result))
+		{
+			result = finder.findRoots(p, (Root[]) null);
+		}
+		
+		// Only warm start from roots that were all found.
+		roots = isFinite(result) ? result : null;
+		return result.clone();
+	}
+	
+	/**
+	 * Returns the last roots of the {@code RootTracker}.
+	 * 
+	 * @return  the last roots, or {@code null}
+	 */
+	public Root[] Roots()
+	{
+		return roots == null ? null : roots.clone();
+	}
+	
+	/**
+	 * Forgets the last roots of the {@code RootTracker}.
+	 * <br> The next call starts a new search.
+	 */
+	public void reset()
+	{
+		roots = null;
+	}
+	
+	
+	private static boolean isFinite(Root[] roots)
+	{
+		for(Root root : roots)
+		{
+			if(!Double.isFinite(root.Real()) || !Double.isFinite(root.Imaginary()))
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+}
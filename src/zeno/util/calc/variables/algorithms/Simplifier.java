@@ -0,0 +1,588 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import zeno.util.calc.Functions;
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Argument;
+import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.Operator;
+import zeno.util.calc.variables.functions.Constant;
+import zeno.util.calc.variables.functions.Polynomial;
+
+/**
+ * The {@code Simplifier} class removes redundant nodes from a {@code Variable} tree.
+ * <br> The tree is simplified from the leaves up. Operators on constants are folded into a constant,
+ * identities such as {@code x + 0}, {@code x * 1} and {@code x ^ 1} are removed, and constants
+ * in nested sums and products are merged. Subtrees built from sums, products, constant divisors
+ * and small integer powers of a single named input are replaced by a single {@code Polynomial}. Powers of a sum
+ * are kept instead of expanded, since the expanded cofficients cancel each other near its roots.
+ * <br> Products with zero and differences of equal operands are kept, since they are not zero
+ * for infinite or undefined operands.
+ * Merging constants may round differently from the original tree in the last bits.
+ * <br> Nested operands receive a single value, while the root passes each value
+ * to its own operand. The root is therefore only simplified itself when all
+ * of its operands but the first are constant, and otherwise only its operands are.
+ * The operands of a {@link Substitution} are simplified, and then folded into its body if they are constant.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see Variable
+ */
+public final class Simplifier
+{
+	private static final int MAX_POWER = 64;
+
+	// Inputs that are not the name of an argument.
+	private static final String NONE = new String("none");
+	private static final String UNNAMED = new String("unnamed");
+	private static final String MIXED = new String("mixed");
+
+
+	/**
+	 * Simplifies a {@code Variable} tree.
+	 * 
+	 * @param var  a variable to simplify
+	 * @return  the simplified variable
+	 */
+	public static Variable simplify(Variable var)
+	{
+		Simplifier simplifier = new Simplifier();
+		if(!(var instanceof Function) || ((Function) var).Operator() == null)
+		{
+			return simplifier.nested(var);
+		}
+
+		Function func = (Function) var;
+		Operator op = func.Operator();
+		Variable[] vars = func.Operands();
+		boolean isChanged = simplifier.nested(vars);
+
+		Variable root = isChanged ? rebuild(op, vars) : var;
+		if(!isUnivariate(root))
+		{
+			return root;
+		}
+
+		// The root receives a single value, so it can be simplified like a nested function.
+		Variable result = reduce(op, vars, root, simplifier.input(var) != MIXED);
+		if(!isUnivariate(result) || arity(result) > vars.length)
+		{
+			return root;
+		}
+
+		return result;
+	}
+
+
+	private Map<Variable, Variable> cache;
+	private Map<Variable, String> inputs;
+
+	private Simplifier()
+	{
+		cache = new IdentityHashMap<>();
+		inputs = new IdentityHashMap<>();
+	}
+
+
+	private Variable nested(Variable var)
+	{
+		Variable result = cache.get(var);
+		if(result != null)
+		{
+			return result;
+		}
+
+		result = var;
+		if(var instanceof Polynomial)
+		{
+			Polynomial poly = (Polynomial) var;
+			if(poly.Degree() == 0)
+			{
+				result = Constant.from(poly.Coefficient(0));
+			}
+		}
+		else if(var instanceof Substitution)
+		{
+			Substitution sub = (Substitution) var;
+			Variable[] vars = sub.Operands();
+			if(nested(vars))
+			{
+				result = Differentiator.substitute(sub.Body(), sub.Parameters(), vars, sub.Slots());
+			}
+		}
+		else if(var instanceof Function)
+		{
+			Function func = (Function) var;
+			Operator op = func.Operator();
+			if(op != null)
+			{
+				Variable[] vars = func.Operands();
+				boolean isChanged = nested(vars);
+				result = reduce(op, vars, isChanged ? null : var, input(var) != MIXED);
+			}
+		}
+
+		cache.put(var, result);
+		return result;
+	}
+
+	private boolean nested(Variable[] vars)
+	{
+		boolean isChanged = false;
+		for(int i = 0; i < vars.length; i++)
+		{
+			Variable next = nested(vars[i]);
+			isChanged |= next != vars[i];
+			vars[i] = next;
+		}
+
+		return isChanged;
+	}
+
+	private String input(Variable var)
+	{
+		// Leaves without a name read the first slot when bound.
+		if(var instanceof Constant)
+		{
+			return NONE;
+		}
+
+		if(var instanceof Argument)
+		{
+			return var.toString();
+		}
+
+		if(!(var instanceof Function) || ((Function) var).Operator() == null)
+		{
+			return UNNAMED;
+		}
+
+		String result = inputs.get(var);
+		if(result != null)
+		{
+			return result;
+		}
+
+		result = NONE;
+		for(Variable v : ((Function) var).Operands())
+		{
+			String next = input(v);
+			if(result == NONE)
+			{
+				result = next;
+			}
+			else if(next != NONE && !next.equals(result))
+			{
+				result = MIXED;
+				break;
+			}
+		}
+
+		inputs.put(var, result);
+		return result;
+	}
+
+
+	private static Variable reduce(Operator op, Variable[] vars, Variable var, boolean isSingle)
+	{
+		if(isConstant(vars))
+		{
+			return fold(op, vars);
+		}
+
+		Variable kept = identity(op, vars);
+		if(kept != null)
+		{
+			return kept;
+		}
+
+		// Constant polynomials such as x - x are kept, since they are not constant for infinite operands.
+		Polynomial poly = isSingle ? polynomial(op, vars) : null;
+		if(poly != null && poly.Degree() > 0)
+		{
+			return poly;
+		}
+
+		Variable merged = merge(op, vars);
+		if(merged != null)
+		{
+			return merged;
+		}
+
+		return var != null ? var : rebuild(op, vars);
+	}
+
+	private static Variable fold(Operator op, Variable[] vars)
+	{
+		double result = value(vars[0]);
+		if(vars.length == 1)
+		{
+			return Constant.from(op.apply(result));
+		}
+
+		if(op == Operator.CLAMP)
+		{
+			return Constant.from(op.apply(result, value(vars[1]), value(vars[2])));
+		}
+
+		// Fold variadic operators pairwise.
+		for(int i = 1; i < vars.length; i++)
+		{
+			result = op.apply(result, value(vars[i]));
+		}
+
+		return Constant.from(result);
+	}
+
+	private static Variable identity(Operator op, Variable[] vars)
+	{
+		if(vars.length == 1)
+		{
+			// Extremes of a single operand.
+			if(op == Operator.MIN || op == Operator.MAX)
+			{
+				return vars[0];
+			}
+
+			return null;
+		}
+
+		if(vars.length != 2)
+		{
+			return null;
+		}
+
+		Variable u = vars[0], v = vars[1];
+		switch(op)
+		{
+		case ADD:
+			if(isValue(v, 0)) return u;
+			if(isValue(u, 0)) return v;
+			return null;
+		case SUBTRACT:
+			if(isValue(v, 0)) return u;
+			return null;
+		case MULTIPLY:
+			if(isValue(v, 1)) return u;
+			if(isValue(u, 1)) return v;
+			return null;
+		case DIVIDE:
+			if(isValue(v, 1)) return u;
+			return null;
+		case POW:
+			if(isValue(v, 1)) return u;
+			if(isValue(v, 0)) return Constant.from(1);
+			return null;
+		default:
+			return null;
+		}
+	}
+
+	private static Polynomial polynomial(Operator op, Variable[] vars)
+	{
+		if(vars.length != 2)
+		{
+			return null;
+		}
+
+		Polynomial u = toPolynomial(vars[0]);
+		switch(op)
+		{
+		case ADD:
+		case SUBTRACT:
+		case MULTIPLY:
+			Polynomial v = toPolynomial(vars[1]);
+			if(u == null || v == null)
+			{
+				return null;
+			}
+
+			if(op == Operator.ADD)
+				return u.plus(v);
+			if(op == Operator.SUBTRACT)
+				return u.minus(v);
+			return u.times(v);
+		case DIVIDE:
+			if(u == null || !(vars[1] instanceof Constant))
+			{
+				return null;
+			}
+
+			return u.over(value(vars[1]));
+		case POW:
+			if(u == null || !(vars[1] instanceof Constant))
+			{
+				return null;
+			}
+
+			// Expanded powers of a sum cancel badly near its roots.
+			double exp = value(vars[1]);
+			if(exp < 2 || exp > MAX_POWER || exp != (int) exp || !isMonomial(u))
+			{
+				return null;
+			}
+
+			Polynomial result = u;
+			for(int i = 1; i < exp; i++)
+			{
+				result = result.times(u);
+			}
+
+			return result;
+		default:
+			return null;
+		}
+	}
+
+	private static Variable merge(Operator op, Variable[] vars)
+	{
+		if(vars.length != 2)
+		{
+			return null;
+		}
+
+		// Move a constant operand to the right.
+		Variable u = vars[0], v = vars[1];
+		if(u instanceof Constant && (op == Operator.ADD || op == Operator.MULTIPLY))
+		{
+			u = vars[1];
+			v = vars[0];
+		}
+
+		if(!(v instanceof Constant) || !(u instanceof Function))
+		{
+			return null;
+		}
+
+		Function inner = (Function) u;
+		Variable[] ins = inner.Operands();
+		if(ins.length != 2)
+		{
+			return null;
+		}
+
+		// Move the inner constant operand to the right.
+		Operator iop = inner.Operator();
+		Variable w = ins[0], c = ins[1];
+		if(w instanceof Constant && (iop == Operator.ADD || iop == Operator.MULTIPLY))
+		{
+			w = ins[1];
+			c = ins[0];
+		}
+
+		if(!(c instanceof Constant))
+		{
+			return null;
+		}
+
+
+		double outer = value(v);
+		double nested = value(c);
+
+		// (w * c) * v = w * (c.v)
+		if(op == Operator.MULTIPLY && iop == Operator.MULTIPLY)
+		{
+			double product = nested * outer;
+			if(product == 1)
+			{
+				return w;
+			}
+
+			return Functions.Multiply(w, Constant.from(product));
+		}
+
+		// (w +- c) +- v = w + (+-c +-v)
+		if(isSum(op) && isSum(iop))
+		{
+			double sum = (iop == Operator.ADD ? nested : -nested)
+					   + (op  == Operator.ADD ? outer  : -outer);
+
+			if(sum == 0)
+			{
+				return w;
+			}
+
+			return Functions.Add(w, Constant.from(sum));
+		}
+
+		return null;
+	}
+
+	/**
+	 * Builds a function for an operator with new operands.
+	 * 
+	 * @param op  the function's operator
+	 * @param vars  the function's operands
+	 * @return  the rebuilt function
+	 */
+	static Variable rebuild(Operator op, Variable[] vars)
+	{
+		switch(op)
+		{
+		case MULTIPLY:
+			return Functions.Multiply(vars[0], vars[1]);
+		case SUBTRACT:
+			return Functions.Subtract(vars[0], vars[1]);
+		case DIVIDE:
+			return Functions.Divide(vars[0], vars[1]);
+		case ADD:
+			return Functions.Add(vars[0], vars[1]);
+		case POW:
+			return Functions.Pow(vars[0], vars[1]);
+		case EXP:
+			return Functions.Exp(vars[0]);
+		case MIN:
+			return Functions.Min(vars);
+		case MAX:
+			return Functions.Max(vars);
+		case SIGN:
+			return Functions.Sign(vars[0]);
+		case ABS:
+			return Functions.Abs(vars[0]);
+		case LOG:
+			return Functions.Log(vars[0], vars[1]);
+		case LOG10:
+			return Functions.Log10(vars[0]);
+		case LN:
+			return Functions.Ln(vars[0]);
+		case CBRT:
+			return Functions.Cbrt(vars[0]);
+		case SQRT:
+			return Functions.Sqrt(vars[0]);
+		case CLAMP:
+			return Functions.Clamp(vars[0], vars[1], vars[2]);
+		case ROUND:
+			if(vars.length == 2)
+				return Functions.Round(vars[0], (int) value(vars[1]));
+			return Functions.Round(vars[0]);
+		case FLOOR:
+			return Functions.Floor(vars[0]);
+		case CEIL:
+			return Functions.Ceil(vars[0]);
+		case ATAN2:
+			return Functions.Atan2(vars[0], vars[1]);
+		case SIN:
+			return Functions.Sin(vars[0]);
+		case COS:
+			return Functions.Cos(vars[0]);
+		case TAN:
+			return Functions.Tan(vars[0]);
+		case COSH:
+			return Functions.Cosh(vars[0]);
+		case SINH:
+			return Functions.Sinh(vars[0]);
+		case TANH:
+			return Functions.Tanh(vars[0]);
+		case ACOS:
+			return Functions.Acos(vars[0]);
+		case ASIN:
+			return Functions.ASin(vars[0]);
+		case ATAN:
+			return Functions.ATan(vars[0]);
+		default:
+			throw new UnsupportedOperationException("The operator " + op + " can not be rebuilt.");
+		}
+	}
+
+
+	private static Polynomial toPolynomial(Variable var)
+	{
+		if(var instanceof Polynomial)
+		{
+			return (Polynomial) var;
+		}
+
+		if(var instanceof Constant)
+		{
+			return new Polynomial(value(var));
+		}
+
+		if(var instanceof Argument)
+		{
+			return new Polynomial(1, 0);
+		}
+
+		return null;
+	}
+
+	private static boolean isMonomial(Polynomial poly)
+	{
+		int count = 0;
+		for(double coef : poly.Coefficients())
+		{
+			if(coef != 0)
+			{
+				count++;
+			}
+		}
+
+		return count == 1;
+	}
+
+	private static boolean isUnivariate(Variable var)
+	{
+		if(!(var instanceof Function))
+		{
+			return var instanceof Constant || var instanceof Argument;
+		}
+
+		// Only the first operand of a root function receives a value.
+		Function func = (Function) var;
+		Variable[] vars = func.Operands();
+		for(int i = 1; i < vars.length; i++)
+		{
+			if(!(vars[i] instanceof Constant))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static int arity(Variable var)
+	{
+		// The root needs a value for each of its operands.
+		if(var instanceof Function)
+		{
+			Function func = (Function) var;
+			if(func.Operator() != null)
+			{
+				return func.Operands().length;
+			}
+		}
+
+		return 1;
+	}
+
+	private static boolean isConstant(Variable[] vars)
+	{
+		for(Variable var : vars)
+		{
+			if(!(var instanceof Constant))
+			{
+				return false;
+			}
+		}
+
+		return vars.length > 0;
+	}
+
+	private static boolean isSum(Operator op)
+	{
+		return op == Operator.ADD || op == Operator.SUBTRACT;
+	}
+
+	private static boolean isValue(Variable var, double val)
+	{
+		return var instanceof Constant && value(var) == val;
+	}
+
+	private static double value(Variable var)
+	{
+		return ((Constant) var).Value();
+	}
+}
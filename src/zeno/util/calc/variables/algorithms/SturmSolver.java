@@ -0,0 +1,343 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * The {@code SturmSolver} class finds the real roots of a polynomial in an interval.
+ * <br> The roots are isolated with a {@code Sturm sequence}, which counts the distinct
+ * real roots in any interval without computing the complex roots. Each isolated root
+ * is then refined with Newton's method, safeguarded by bisection.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Sturm%27s_theorem">Sturm's Theorem</a>
+ * @see RootFinder
+ */
+final class SturmSolver
+{
+	private static final double ZERO_TOLERANCE = 1e-12;
+
+
+	/**
+	 * Finds the distinct real roots of a polynomial in an interval.
+	 * 
+	 * <br> Infinite bounds are clamped to the Cauchy bound of the polynomial,
+	 * so {@code (-inf, inf)} finds every real root.
+	 * 
+	 * @param coef  the polynomial's cofficients, from lowest to highest degree
+	 * @param lo  the interval's lower bound
+	 * @param hi  the interval's upper bound
+	 * @param iterations  a max iteration count for each root
+	 * @param abstol  an absolute tolerance
+	 * @param reltol  a relative tolerance
+	 * @return  the polynomial's roots, in ascending order
+	 */
+	public static double[] solve(double[] coef, double lo, double hi, int iterations, double abstol, double reltol)
+	{
+		double[][] seq = sequence(coef);
+		if(seq == null)
+		{
+			return new double[0];
+		}
+
+		// Every real root lies within the Cauchy bound.
+		double bound = bound(seq[0]);
+		lo = Math.max(lo, -bound);
+		hi = Math.min(hi, bound);
+		if(!(lo <= hi))
+		{
+			return new double[0];
+		}
+
+		Search search = new Search(seq, iterations, abstol, reltol);
+
+		// The sequence counts roots in (lo, hi].
+		if(evaluate(seq[0], lo) == 0)
+		{
+			search.add(lo);
+		}
+
+		search.isolate(lo, hi, changes(seq, lo), changes(seq, hi));
+		return search.roots();
+	}
+
+
+	private static double bound(double[] coef)
+	{
+		int deg = coef.length - 1;
+
+		double max = 0;
+		for(int d = 0; d < deg; d++)
+		{
+			max = Math.max(max, Math.abs(coef[d] / coef[deg]));
+		}
+
+		// Keep the width of the interval finite.
+		return Math.min(1 + max, Double.MAX_VALUE / 2);
+	}
+
+	private static double[][] sequence(double[] coef)
+	{
+		double[] p0 = trim(coef, 0);
+		if(p0 == null || p0.length < 2)
+		{
+			return null;
+		}
+
+		double[] p1 = new double[p0.length - 1];
+		for(int d = 1; d < p0.length; d++)
+		{
+			p1[d - 1] = d * p0[d];
+		}
+
+
+		double[][] seq = new double[p0.length][];
+		seq[0] = p0;
+		seq[1] = p1;
+
+		int size = 2;
+		while(seq[size - 1].length > 1)
+		{
+			double[] rem = remainder(seq[size - 2], seq[size - 1]);
+			if(rem == null)
+			{
+				break;
+			}
+
+			for(int d = 0; d < rem.length; d++)
+			{
+				rem[d] = -rem[d];
+			}
+
+			seq[size++] = rem;
+		}
+
+		return Arrays.copyOf(seq, size);
+	}
+
+	private static double[] remainder(double[] a, double[] b)
+	{
+		double[] rem = a.clone();
+
+		int db = b.length - 1;
+		for(int d = rem.length - 1; d >= db; d--)
+		{
+			double q = rem[d] / b[db];
+			for(int i = 0; i <= db; i++)
+			{
+				rem[d - db + i] -= q * b[i];
+			}
+		}
+
+		// Treat cofficients lost in cancellation as zero.
+		double norm = 0;
+		for(double val : a)
+		{
+			norm = Math.max(norm, Math.abs(val));
+		}
+
+		return trim(Arrays.copyOf(rem, db), norm * ZERO_TOLERANCE);
+	}
+
+	private static double[] trim(double[] coef, double zero)
+	{
+		int deg = coef.length - 1;
+		while(deg >= 0 && Math.abs(coef[deg]) <= zero)
+		{
+			deg--;
+		}
+
+		if(deg < 0)
+		{
+			return null;
+		}
+
+		return Arrays.copyOf(coef, deg + 1);
+	}
+
+	private static int changes(double[][] seq, double val)
+	{
+		int count = 0;
+		double last = 0;
+		for(double[] poly : seq)
+		{
+			double cur = evaluate(poly, val);
+			if(cur == 0) continue;
+
+			if(last != 0 && (cur < 0) != (last < 0))
+			{
+				count++;
+			}
+
+			last = cur;
+		}
+
+		return count;
+	}
+
+	private static double evaluate(double[] coef, double val)
+	{
+		double result = coef[coef.length - 1];
+		for(int d = coef.length - 2; d >= 0; d--)
+		{
+			result = result * val + coef[d];
+		}
+
+		return result;
+	}
+
+
+	/**
+	 * The {@code Search} class isolates and refines the roots of a single call.
+	 */
+	private static class Search
+	{
+		private double[][] seq;
+		private double[] roots;
+		private int size, iterations;
+		private double abstol, reltol;
+
+		public Search(double[][] seq, int iterations, double abstol, double reltol)
+		{
+			this.seq = seq;
+			this.iterations = iterations;
+			this.abstol = abstol;
+			this.reltol = reltol;
+			roots = new double[seq[0].length - 1];
+		}
+
+
+		public void isolate(double a, double b, int va, int vb)
+		{
+			int count = va - vb;
+			if(count <= 0)
+			{
+				return;
+			}
+
+			double mid = a + (b - a) / 2;
+			if(b - a <= abstol + reltol * Math.abs(mid))
+			{
+				add(mid);
+				return;
+			}
+
+			if(count == 1)
+			{
+				add(refine(a, b, va));
+				return;
+			}
+
+			int vm = changes(seq, mid);
+			isolate(a, mid, va, vm);
+			isolate(mid, b, vm, vb);
+		}
+
+		public void add(double root)
+		{
+			if(size < roots.length)
+			{
+				roots[size++] = root;
+			}
+		}
+
+		public double[] roots()
+		{
+			double[] result = Arrays.copyOf(roots, size);
+			Arrays.sort(result);
+			return result;
+		}
+
+
+		private double refine(double a, double b, int va)
+		{
+			double[] poly = seq[0];
+			double fa = evaluate(poly, a);
+			double fb = evaluate(poly, b);
+			if(fb == 0)
+			{
+				return b;
+			}
+
+			// Roots of even multiplicity do not change sign.
+			if(fa == 0 || (fa < 0) == (fb < 0))
+			{
+				return bisect(a, b, va);
+			}
+
+			// Orient the bracket so that f(lo) < 0.
+			double lo = a, hi = b;
+			if(fa > 0)
+			{
+				lo = b;
+				hi = a;
+			}
+
+			double x = a + (b - a) / 2;
+			double dx = Math.abs(b - a);
+			for(int i = 0; i < iterations; i++)
+			{
+				// Evaluate the polynomial and its derivative.
+				double f = poly[poly.length - 1], df = 0;
+				for(int d = poly.length - 2; d >= 0; d--)
+				{
+					df = df * x + f;
+					f = f * x + poly[d];
+				}
+
+				if(f == 0)
+				{
+					return x;
+				}
+
+				if(f < 0)
+					lo = x;
+				else
+					hi = x;
+
+				// Bisect when Newton's step leaves the bracket or converges slowly.
+				double last = dx;
+				double step = f / df;
+				double next = x - step;
+				if(df == 0 || (next - lo) * (next - hi) > 0 || Math.abs(2 * f) > Math.abs(last * df))
+				{
+					next = lo + (hi - lo) / 2;
+				}
+
+				dx = Math.abs(next - x);
+				x = next;
+				if(dx <= abstol + reltol * Math.abs(x))
+				{
+					return x;
+				}
+			}
+
+			return x;
+		}
+
+		private double bisect(double a, double b, int va)
+		{
+			// Follow the sign changes of the sequence instead of the polynomial.
+			for(int i = 0; i < iterations; i++)
+			{
+				double mid = a + (b - a) / 2;
+				if(b - a <= abstol + reltol * Math.abs(mid))
+				{
+					break;
+				}
+
+				int vm = changes(seq, mid);
+				if(vm < va)
+					b = mid;
+				else
+				{
+					a = mid;
+					va = vm;
+				}
+			}
+
+			return a + (b - a) / 2;
+		}
+	}
+}
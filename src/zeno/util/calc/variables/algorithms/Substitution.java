@@ -0,0 +1,146 @@
+package zeno.util.calc.variables.algorithms;
+
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Argument;
+import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.Operator;
+
+/**
+ * The {@code Substitution} class defines a function whose parameters are replaced by operands.
+ * <br> The body is built from operators and constants over a list of parameters, and each
+ * parameter stands for the value of one operand. Evaluated for a single value, every operand
+ * receives that value. Evaluated for more values, each operand receives the value of its own slot,
+ * so a body can combine values from several slots at any depth of its tree.
+ * <br> The body is flattened once, and evaluated without buffers, so a {@code Substitution}
+ * is as safe for use by multiple threads as its operands are.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see Differentiator
+ * @see Function
+ */
+public final class Substitution extends Function
+{
+	private static final Operator[] OPERATORS = Operator.values();
+
+
+	private Variable body;
+	private Argument[] params;
+	private Variable[] vars;
+	private int[] slots;
+	private Tape tape;
+
+	/**
+	 * Creates a new {@code Substitution}.
+	 * 
+	 * @param body  the substitution's body
+	 * @param params  the parameters of the body
+	 * @param vars  the operand of each parameter
+	 * @param slots  the argument slot of each operand
+	 * @throws IllegalArgumentException  if the body holds an argument that is not a parameter
+	 */
+	Substitution(Variable body, Argument[] params, Variable[] vars, int[] slots)
+	{
+		super(null, vars);
+
+		this.body = body;
+		this.params = params;
+		this.vars = vars;
+		this.slots = slots;
+
+		tape = new Tape(body, arg ->
+		{
+			for(int i = 0; i < params.length; i++)
+			{
+				if(params[i] == arg)
+				{
+					return i;
+				}
+			}
+
+			throw new IllegalArgumentException("The argument " + arg + " is not a parameter.");
+		});
+	}
+
+
+	/**
+	 * Returns the body of the {@code Substitution}.
+	 * 
+	 * @return  the substitution's body
+	 */
+	public Variable Body()
+	{
+		return body;
+	}
+
+	/**
+	 * Returns the parameters of the {@code Substitution}.
+	 * 
+	 * @return  the substitution's parameters
+	 */
+	public Argument[] Parameters()
+	{
+		return params.clone();
+	}
+
+	/**
+	 * Returns the operand slots of the {@code Substitution}.
+	 * 
+	 * @return  the argument slot of each operand
+	 */
+	public int[] Slots()
+	{
+		return slots.clone();
+	}
+
+
+	@Override
+	public double evaluate(double... args)
+	{
+		if(args.length == 1)
+		{
+			return evaluate1(args[0]);
+		}
+
+		return apply(tape.size - 1, args, 0);
+	}
+
+	@Override
+	public double evaluate1(double val)
+	{
+		return apply(tape.size - 1, null, val);
+	}
+
+
+	private double apply(int k, double[] args, double val)
+	{
+		int code = tape.codes[k];
+		if(code == Tape.CONSTANT)
+		{
+			return tape.consts[k];
+		}
+
+		// Each parameter evaluates its operand in place.
+		if(code == Tape.ARGUMENT)
+		{
+			int i = tape.slots[k];
+			return vars[i].evaluate1(args == null ? val : args[slots[i]]);
+		}
+
+		Operator op = OPERATORS[code];
+		double a = apply(tape.in0[k], args, val);
+		if(tape.in1[k] < 0)
+		{
+			return op.apply(a);
+		}
+
+		double b = apply(tape.in1[k], args, val);
+		if(tape.in2[k] < 0)
+		{
+			return op.apply(a, b);
+		}
+
+		return op.apply(a, b, apply(tape.in2[k], args, val));
+	}
+}
@@ -0,0 +1,553 @@
+package zeno.util.calc.variables.algorithms;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Argument;
+import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.Operator;
+import zeno.util.calc.variables.functions.Constant;
+import zeno.util.calc.variables.functions.Polynomial;
+import zeno.util.calc.variables.functions.Rational;
+import zeno.util.tools.primitives.Doubles;
+
+/**
+ * The {@code Tape} class holds a {@code Variable} tree flattened into primitive arrays.
+ * <br> Every node is stored after its operands, so the root is the last node.
+ * Variadic extremes are folded into pairs, and any other variable is kept as a leaf. For evaluators
+ * that record the tape, polynomials and rationals are kept together with their closed-form
+ * derivatives, while leaves without a derivative rule fail. The body of a {@link Substitution}
+ * is stored with each parameter bound to its operand. A node that is shared
+ * by several operators is stored once for each slot it reads, and constants are stored once.
+ * <br> Arguments are either routed by position, the way {@link Variable#evaluate(double...)} routes them,
+ * or bound to a slot by name. Every evaluator built on a {@code Tape} keeps its node values
+ * in buffers of its own between calls.
+ * <br> Recording the tape computes the value of every node, together with
+ * the partial derivative of each node for each of its operands. For arguments
+ * and leaves, the partial derivative is taken for the value in their slot.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see DualEvaluator
+ * @see AdjointEvaluator
+ * @see DagEvaluator
+ * @see BoundFunction
+ */
+final class Tape
+{
+	static final int CONSTANT = -1;
+	static final int ARGUMENT = -2;
+	static final int LEAF = -3;
+
+	private static final double LN10 = Math.log(10);
+	private static final Operator[] OPERATORS = Operator.values();
+
+
+	int size;
+	int[] codes, slots;
+	int[] in0, in1, in2;
+	double[] consts;
+	Variable[] leaves, slopes;
+
+	private Map<Node, Integer> shared;
+	private ToIntFunction<Argument> binder;
+
+	/**
+	 * Creates a new {@code Tape}.
+	 * <br> Arguments are routed by position.
+	 * 
+	 * @param var  a variable to flatten
+	 * @throws UnsupportedOperationException  if the root is a leaf that can not be flattened
+	 */
+	public Tape(Variable var)
+	{
+		this(var, null, false);
+	}
+
+	/**
+	 * Creates a new {@code Tape}.
+	 * <br> Arguments are routed by position. Leaves are stored with
+	 * their derivatives, so the tape can be recorded.
+	 * 
+	 * @param var  a variable to flatten
+	 * @param hasSlopes  whether the tape can be recorded
+	 * @throws UnsupportedOperationException  if the tree holds a leaf without a derivative rule
+	 */
+	public Tape(Variable var, boolean hasSlopes)
+	{
+		this(var, null, hasSlopes);
+	}
+
+	/**
+	 * Creates a new {@code Tape}.
+	 * <br> Arguments are bound to the slot returned by the binder,
+	 * and any other leaf is bound to the first slot.
+	 * 
+	 * @param var  a variable to flatten
+	 * @param binder  a slot for each argument
+	 */
+	public Tape(Variable var, ToIntFunction<Argument> binder)
+	{
+		this(var, binder, false);
+	}
+
+	private Tape(Variable var, ToIntFunction<Argument> binder, boolean hasSlopes)
+	{
+		this.binder = binder;
+
+		codes = new int[16];
+		slots = new int[16];
+		in0 = new int[16];
+		in1 = new int[16];
+		in2 = new int[16];
+		consts = new double[16];
+		leaves = new Variable[16];
+		slopes = hasSlopes ? new Variable[16] : null;
+
+		shared = new HashMap<>();
+		flatten(var, binder == null ? -1 : 0);
+		shared = null;
+		binder = null;
+	}
+
+
+	/**
+	 * Returns the argument slot of a node.
+	 * <br> A single value is passed on to every node.
+	 * 
+	 * @param k  the node's index
+	 * @param n  the argument count
+	 * @return  the node's argument slot
+	 */
+	public int slot(int k, int n)
+	{
+		return n == 1 ? 0 : slots[k];
+	}
+
+	/**
+	 * Evaluates the nodes of the {@code Tape}.
+	 * 
+	 * @param args  a list of arguments
+	 * @param val  the output node values
+	 */
+	public void evaluate(double[] args, double[] val)
+	{
+		int n = args.length;
+		for(int k = 0; k < size; k++)
+		{
+			int code = codes[k];
+			if(code == CONSTANT)
+			{
+				val[k] = consts[k];
+				continue;
+			}
+
+			if(code == ARGUMENT)
+			{
+				val[k] = args[slot(k, n)];
+				continue;
+			}
+
+			if(code == LEAF)
+			{
+				val[k] = leaves[k].evaluate1(args[slot(k, n)]);
+				continue;
+			}
+
+			Operator op = OPERATORS[code];
+			if(in1[k] < 0)
+				val[k] = op.apply(val[in0[k]]);
+			else if(in2[k] < 0)
+				val[k] = op.apply(val[in0[k]], val[in1[k]]);
+			else
+				val[k] = op.apply(val[in0[k]], val[in1[k]], val[in2[k]]);
+		}
+	}
+
+	/**
+	 * Records the values and partial derivatives of the {@code Tape}.
+	 * <br> Only a tape with slopes can be recorded. The partial derivatives of node {@code k} are stored
+	 * from index {@code 3k}, one for each of its operands.
+	 * 
+	 * @param args  a list of arguments
+	 * @param val  the output node values
+	 * @param part  the output partial derivatives
+	 */
+	public void record(double[] args, double[] val, double[] part)
+	{
+		int n = args.length;
+		for(int k = 0; k < size; k++)
+		{
+			int code = codes[k];
+			if(code == CONSTANT)
+			{
+				val[k] = consts[k];
+				continue;
+			}
+
+			if(code == ARGUMENT)
+			{
+				val[k] = args[slot(k, n)];
+				part[3 * k] = 1;
+				continue;
+			}
+
+			if(code == LEAF)
+			{
+				double x = args[slot(k, n)];
+				val[k] = leaves[k].evaluate1(x);
+				part[3 * k] = slopes[k].evaluate1(x);
+				continue;
+			}
+
+
+			// The operators are applied in the loop itself, to avoid a call per node.
+			Operator op = OPERATORS[code];
+
+			int i0 = in0[k], i1 = in1[k], i2 = in2[k];
+			double a = val[i0];
+			double b = i1 < 0 ? 0 : val[i1];
+			double c = i2 < 0 ? 0 : val[i2];
+
+			// Find the result and its partial derivative for each operand.
+			double r, pa = 0, pb = 0, pc = 0;
+			switch(op)
+			{
+			case ADD:
+				r = a + b;
+				pa = 1; pb = 1;
+				break;
+			case SUBTRACT:
+				r = a - b;
+				pa = 1; pb = -1;
+				break;
+			case MULTIPLY:
+				r = a * b;
+				pa = b; pb = a;
+				break;
+			case DIVIDE:
+				r = a / b;
+				pa = 1 / b; pb = -r / b;
+				break;
+			case POW:
+				r = Doubles.pow(a, b);
+				pa = b == 0 ? 0 : b * Doubles.pow(a, b - 1);
+				pb = a > 0 ? r * Doubles.ln(a) : 0;
+				break;
+			case EXP:
+				r = Doubles.exp(a);
+				pa = r;
+				break;
+			case MIN:
+				r = i1 < 0 ? a : Math.min(a, b);
+				if(i1 < 0 || a <= b)
+					pa = 1;
+				else
+					pb = 1;
+				break;
+			case MAX:
+				r = i1 < 0 ? a : Math.max(a, b);
+				if(i1 < 0 || a >= b)
+					pa = 1;
+				else
+					pb = 1;
+				break;
+			case ABS:
+				r = Doubles.abs(a);
+				pa = Doubles.sign(a);
+				break;
+			case LOG:
+				r = Doubles.log(a, b);
+				pa = 1 / (a * Doubles.ln(b));
+				pb = -r / (b * Doubles.ln(b));
+				break;
+			case LOG10:
+				r = Doubles.log10(a);
+				pa = 1 / (a * LN10);
+				break;
+			case LN:
+				r = Doubles.ln(a);
+				pa = 1 / a;
+				break;
+			case CBRT:
+				r = Doubles.cbrt(a);
+				pa = 1 / (3 * r * r);
+				break;
+			case SQRT:
+				r = Doubles.sqrt(a);
+				pa = 1 / (2 * r);
+				break;
+			case CLAMP:
+				r = Doubles.clamp(a, b, c);
+				if(a < b)
+					pb = 1;
+				else if(a > c)
+					pc = 1;
+				else
+					pa = 1;
+				break;
+			case ATAN2:
+				r = Doubles.atan2(a, b);
+				pa =  b / (a * a + b * b);
+				pb = -a / (a * a + b * b);
+				break;
+			case SIN:
+				r = Doubles.sin(a);
+				pa = Doubles.cos(a);
+				break;
+			case COS:
+				r = Doubles.cos(a);
+				pa = -Doubles.sin(a);
+				break;
+			case TAN:
+				r = Doubles.tan(a);
+				pa = 1 + r * r;
+				break;
+			case COSH:
+				r = Doubles.cosh(a);
+				pa = Doubles.sinh(a);
+				break;
+			case SINH:
+				r = Doubles.sinh(a);
+				pa = Doubles.cosh(a);
+				break;
+			case TANH:
+				r = Doubles.tanh(a);
+				pa = 1 - r * r;
+				break;
+			case ACOS:
+				r = Doubles.acos(a);
+				pa = -1 / Doubles.sqrt(1 - a * a);
+				break;
+			case ASIN:
+				r = Doubles.asin(a);
+				pa = 1 / Doubles.sqrt(1 - a * a);
+				break;
+			case ATAN:
+				r = Doubles.atan(a);
+				pa = 1 / (1 + a * a);
+				break;
+			default:
+				// Rounding and sign operators are piecewise constant.
+				if(i1 < 0)
+					r = op.apply(a);
+				else
+					r = op.apply(a, b);
+				break;
+			}
+
+			val[k] = r;
+			part[3 * k] = pa;
+			part[3 * k + 1] = pb;
+			part[3 * k + 2] = pc;
+		}
+	}
+
+
+	private int flatten(Variable var, int slot)
+	{
+		// Constants are shared between slots.
+		Node key = new Node(var, var instanceof Constant ? 0 : slot);
+		Integer k = shared.get(key);
+		if(k == null)
+		{
+			k = node(var, slot);
+			shared.put(key, k);
+		}
+
+		return k;
+	}
+
+	private int node(Variable var, int slot)
+	{
+		if(var instanceof Constant)
+		{
+			int k = add(CONSTANT, slot);
+			consts[k] = ((Constant) var).Value();
+			return k;
+		}
+
+		if(var instanceof Argument)
+		{
+			if(binder != null)
+			{
+				slot = binder.applyAsInt((Argument) var);
+			}
+
+			return add(ARGUMENT, slot);
+		}
+
+		if(var instanceof Substitution)
+		{
+			return flatten((Substitution) var, slot);
+		}
+
+		if(var instanceof Function)
+		{
+			Function func = (Function) var;
+			if(func.Operator() != null)
+			{
+				return flatten(func.Operator(), func.Operands(), slot);
+			}
+		}
+
+		// Other leaves are evaluated for a single value.
+		if(slot < 0 && !(var instanceof Polynomial || var instanceof Rational))
+		{
+			throw new UnsupportedOperationException("The variable " + var + " can not be flattened.");
+		}
+
+		int k = add(LEAF, slot);
+		leaves[k] = var;
+		if(slopes != null)
+		{
+			slopes[k] = slope(var);
+		}
+
+		return k;
+	}
+
+	private static Variable slope(Variable var)
+	{
+		if(var instanceof Polynomial)
+		{
+			return ((Polynomial) var).derivative();
+		}
+
+		if(var instanceof Rational)
+		{
+			return ((Rational) var).derivative();
+		}
+
+		throw new UnsupportedOperationException("The variable " + var + " can not be differentiated.");
+	}
+
+	private int flatten(Operator op, Variable[] vars, int slot)
+	{
+		if(vars.length == 0 || vars.length > 3 && op != Operator.MIN && op != Operator.MAX)
+		{
+			throw new IllegalArgumentException(op + " requires one to three operands.");
+		}
+
+		// Fold variadic operators pairwise.
+		int[] ins = new int[vars.length];
+		for(int i = 0; i < vars.length; i++)
+		{
+			ins[i] = flatten(vars[i], route(slot, i));
+		}
+
+		if(vars.length > 3 || (vars.length == 3 && op != Operator.CLAMP))
+		{
+			int k = ins[0];
+			for(int i = 1; i < vars.length; i++)
+			{
+				k = add(op.ordinal(), slot);
+				in0[k] = i == 1 ? ins[0] : k - 1;
+				in1[k] = ins[i];
+			}
+
+			return k;
+		}
+
+		int k = add(op.ordinal(), slot);
+		in0[k] = ins[0];
+		if(ins.length > 1) in1[k] = ins[1];
+		if(ins.length > 2) in2[k] = ins[2];
+		return k;
+	}
+
+	private int flatten(Substitution sub, int slot)
+	{
+		Argument[] params = sub.Parameters();
+		Variable[] vars = sub.Operands();
+		int[] subslots = sub.Slots();
+
+		// The root substitution passes each operand the value of its own slot.
+		Map<Node, Integer> outer = shared;
+		Map<Node, Integer> inner = new HashMap<>();
+		for(int i = 0; i < params.length; i++)
+		{
+			inner.put(new Node(params[i], 0), flatten(vars[i], slot < 0 ? subslots[i] : slot));
+		}
+
+		// The body is shared on its own, with each parameter bound to its operand.
+		shared = inner;
+		int k = flatten(sub.Body(), 0);
+		shared = outer;
+		return k;
+	}
+
+	private int add(int code, int slot)
+	{
+		if(size == codes.length)
+		{
+			int length = 2 * size;
+			codes = Arrays.copyOf(codes, length);
+			slots = Arrays.copyOf(slots, length);
+			in0 = Arrays.copyOf(in0, length);
+			in1 = Arrays.copyOf(in1, length);
+			in2 = Arrays.copyOf(in2, length);
+			consts = Arrays.copyOf(consts, length);
+			leaves = Arrays.copyOf(leaves, length);
+			if(slopes != null)
+			{
+				slopes = Arrays.copyOf(slopes, length);
+			}
+		}
+
+		codes[size] = code;
+		slots[size] = Math.max(slot, 0);
+		in0[size] = -1;
+		in1[size] = -1;
+		in2[size] = -1;
+		return size++;
+	}
+
+	private static int route(int slot, int operand)
+	{
+		// The root function receives every argument.
+		if(slot < 0)
+		{
+			return operand;
+		}
+
+		// Nested functions pass their single argument on.
+		return slot;
+	}
+
+
+	private static final class Node
+	{
+		private Variable var;
+		private int slot;
+
+		public Node(Variable var, int slot)
+		{
+			this.var = var;
+			this.slot = slot;
+		}
+
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if(!(obj instanceof Node))
+			{
+				return false;
+			}
+
+			Node node = (Node) obj;
+			return var == node.var && slot == node.slot;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(var) * 31 + slot;
+		}
+	}
+}
@@ -0,0 +1,293 @@
+package zeno.util.calc.variables.algorithms;
+
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.Operator;
+import zeno.util.calc.variables.functions.Polynomial;
+import zeno.util.calc.variables.functions.Rational;
+
+/**
+ * The {@code VectorEvaluator} class evaluates {@code Variable} trees over columns with SIMD lanes.
+ * <br> Arithmetic, extreme, square root, absolute, clamp, floor and ceil operators
+ * and polynomial Horner steps run on the JDK Vector API when the
+ * {@code jdk.incubator.vector} module is present at runtime, and on scalar loops otherwise.
+ * Every other operator is applied with its own column kernel,
+ * and every other leaf is evaluated with {@link Variable#evaluateBatch}.
+ * <br> Horner steps on vector lanes are fused multiply-adds, so polynomial
+ * results can differ from {@link Polynomial#evaluate} in the last bit.
+ *
+ * @since Oct 17, 2026
+ * @author Zeno
+ *
+ * @see Variable
+ * @see ColumnKernels
+ */
+public final class VectorEvaluator
+{
+	private static final String VECTOR_KERNELS = "zeno.util.calc.variables.algorithms.VectorKernels";
+	private static final ColumnKernels KERNELS = load();
+
+
+	/**
+	 * Indicates if the {@code VectorEvaluator} runs on vector lanes.
+	 *
+	 * @return  {@code true} if the vector module is present
+	 */
+	public static boolean isVectorized()
+	{
+		return !(KERNELS instanceof ScalarKernels);
+	}
+
+	/**
+	 * Evaluates a {@code Variable} for columns of values.
+	 * <br> The output column must not be one of the argument columns.
+	 *
+	 * @param var  a variable to evaluate
+	 * @param columns  a list of argument columns
+	 * @param out  the output column
+	 * @see Variable#evaluateBatch(double[][], double[])
+	 */
+	public static void evaluateBatch(Variable var, double[][] columns, double[] out)
+	{
+		if(var instanceof Polynomial)
+		{
+			Polynomial poly = (Polynomial) var;
+			KERNELS.horner(poly.Coefficients(), columns[0], out);
+			return;
+		}
+
+		if(var instanceof Rational)
+		{
+			Rational rat = (Rational) var;
+
+			double[] numer = new double[out.length];
+			double[] denom = new double[out.length];
+			KERNELS.horner(rat.Quotient().Coefficients(), columns[0], out);
+			KERNELS.horner(rat.Remainder().Coefficients(), columns[0], numer);
+			KERNELS.horner(rat.Divisor().Coefficients(), columns[0], denom);
+			KERNELS.divide(numer, denom, numer);
+			KERNELS.add(out, numer, out);
+			return;
+		}
+
+		if(var instanceof Function)
+		{
+			Function func = (Function) var;
+			if(func.Operator() != null)
+			{
+				evaluate(func.Operator(), func.Operands(), columns, out);
+				return;
+			}
+		}
+
+		var.evaluateBatch(columns, out);
+	}
+
+
+	private static void evaluate(Operator op, Variable[] vars, double[][] columns, double[] out)
+	{
+		evaluateBatch(vars[0], route(columns, 0), out);
+		if(vars.length == 1)
+		{
+			unary(op, out);
+			return;
+		}
+
+		double[] col1 = new double[out.length];
+		evaluateBatch(vars[1], route(columns, 1), col1);
+		if(vars.length == 2)
+		{
+			binary(op, out, col1);
+			return;
+		}
+
+		// Fold variadic operators pairwise.
+		if(op == Operator.MIN || op == Operator.MAX)
+		{
+			binary(op, out, col1);
+			for(int i = 2; i < vars.length; i++)
+			{
+				evaluateBatch(vars[i], route(columns, i), col1);
+				binary(op, out, col1);
+			}
+
+			return;
+		}
+
+		double[] col2 = new double[out.length];
+		evaluateBatch(vars[2], route(columns, 2), col2);
+		if(op == Operator.CLAMP)
+		{
+			KERNELS.clamp(out, col1, col2, out);
+			return;
+		}
+
+		op.apply(out, col1, col2, out);
+	}
+
+	private static void binary(Operator op, double[] out, double[] col)
+	{
+		switch(op)
+		{
+		case ADD:
+			KERNELS.add(out, col, out);
+			return;
+		case SUBTRACT:
+			KERNELS.subtract(out, col, out);
+			return;
+		case MULTIPLY:
+			KERNELS.multiply(out, col, out);
+			return;
+		case DIVIDE:
+			KERNELS.divide(out, col, out);
+			return;
+		case MIN:
+			KERNELS.min(out, col, out);
+			return;
+		case MAX:
+			KERNELS.max(out, col, out);
+			return;
+		default:
+			op.apply(out, col, out);
+		}
+	}
+
+	private static void unary(Operator op, double[] out)
+	{
+		switch(op)
+		{
+		case SQRT:
+			KERNELS.sqrt(out, out);
+			return;
+		case ABS:
+			KERNELS.abs(out, out);
+			return;
+		case FLOOR:
+			KERNELS.floor(out, out);
+			return;
+		case CEIL:
+			KERNELS.ceil(out, out);
+			return;
+		default:
+			op.apply(out, out);
+		}
+	}
+
+	private static double[][] route(double[][] columns, int operand)
+	{
+		// A single column is passed on to each operand.
+		if(columns.length == 1)
+		{
+			return columns;
+		}
+
+		return new double[][]{columns[operand]};
+	}
+
+	private static ColumnKernels load()
+	{
+		try
+		{
+			Class<?> type = Class.forName(VECTOR_KERNELS);
+			return (ColumnKernels) type.getDeclaredConstructor().newInstance();
+		}
+		catch(ReflectiveOperationException | LinkageError e)
+		{
+			return new ScalarKernels();
+		}
+	}
+
+
+	/**
+	 * The {@code ScalarKernels} class implements column operations with scalar loops.
+	 */
+	private static class ScalarKernels implements ColumnKernels
+	{
+		@Override
+		public void add(double[] a, double[] b, double[] out)
+		{
+			Operator.ADD.apply(a, b, out);
+		}
+
+		@Override
+		public void subtract(double[] a, double[] b, double[] out)
+		{
+			Operator.SUBTRACT.apply(a, b, out);
+		}
+
+		@Override
+		public void multiply(double[] a, double[] b, double[] out)
+		{
+			Operator.MULTIPLY.apply(a, b, out);
+		}
+
+		@Override
+		public void divide(double[] a, double[] b, double[] out)
+		{
+			Operator.DIVIDE.apply(a, b, out);
+		}
+
+		@Override
+		public void min(double[] a, double[] b, double[] out)
+		{
+			Operator.MIN.apply(a, b, out);
+		}
+
+		@Override
+		public void max(double[] a, double[] b, double[] out)
+		{
+			Operator.MAX.apply(a, b, out);
+		}
+
+		@Override
+		public void clamp(double[] a, double[] min, double[] max, double[] out)
+		{
+			Operator.CLAMP.apply(a, min, max, out);
+		}
+
+
+		@Override
+		public void sqrt(double[] a, double[] out)
+		{
+			Operator.SQRT.apply(a, out);
+		}
+
+		@Override
+		public void abs(double[] a, double[] out)
+		{
+			Operator.ABS.apply(a, out);
+		}
+
+		@Override
+		public void floor(double[] a, double[] out)
+		{
+			Operator.FLOOR.apply(a, out);
+		}
+
+		@Override
+		public void ceil(double[] a, double[] out)
+		{
+			Operator.CEIL.apply(a, out);
+		}
+
+
+		@Override
+		public void horner(double[] coef, double[] a, double[] out)
+		{
+			int deg = coef.length - 1;
+			for(int i = 0; i < out.length; i++)
+			{
+				out[i] = coef[deg];
+			}
+
+			for(int d = deg - 1; d >= 0; d--)
+			{
+				double cff = coef[d];
+				for(int i = 0; i < out.length; i++)
+				{
+					out[i] = out[i] * a[i] + cff;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,272 @@
+package zeno.util.calc.variables.algorithms;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@code VectorKernels} class implements column operations with {@link DoubleVector} lanes.
+ * <br> This class requires the {@code jdk.incubator.vector} module, both to compile and to run.
+ * The project's build path adds the module to its Java 17 system library, and a build outside
+ * of it needs the {@code --add-modules jdk.incubator.vector} compiler option.
+ * It is only ever loaded reflectively by the {@link VectorEvaluator}, which falls back
+ * to scalar kernels when the module is absent at runtime.
+ *
+ * @since Oct 17, 2026
+ * @author Zeno
+ *
+ * @see VectorEvaluator
+ * @see ColumnKernels
+ */
+final class VectorKernels implements ColumnKernels
+{
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	private static final double EXACT = 0x1p52;
+
+
+	@Override
+	public void add(double[] a, double[] b, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+			va.add(vb).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = a[i] + b[i];
+		}
+	}
+
+	@Override
+	public void subtract(double[] a, double[] b, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+			va.sub(vb).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = a[i] - b[i];
+		}
+	}
+
+	@Override
+	public void multiply(double[] a, double[] b, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+			va.mul(vb).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = a[i] * b[i];
+		}
+	}
+
+	@Override
+	public void divide(double[] a, double[] b, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+			va.div(vb).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = a[i] / b[i];
+		}
+	}
+
+	@Override
+	public void min(double[] a, double[] b, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+			va.min(vb).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = Math.min(a[i], b[i]);
+		}
+	}
+
+	@Override
+	public void max(double[] a, double[] b, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+			va.max(vb).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = Math.max(a[i], b[i]);
+		}
+	}
+
+	@Override
+	public void clamp(double[] a, double[] min, double[] max, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vl = DoubleVector.fromArray(SPECIES, min, i);
+			DoubleVector vh = DoubleVector.fromArray(SPECIES, max, i);
+			va.min(vh).max(vl).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = Math.max(min[i], Math.min(max[i], a[i]));
+		}
+	}
+
+
+	@Override
+	public void sqrt(double[] a, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			va.lanewise(VectorOperators.SQRT).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = Math.sqrt(a[i]);
+		}
+	}
+
+	@Override
+	public void abs(double[] a, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			va.abs().intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = Math.abs(a[i]);
+		}
+	}
+
+	@Override
+	public void floor(double[] a, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vt = truncate(va);
+
+			// Truncation rounds negative values up.
+			VectorMask<Double> up = vt.compare(VectorOperators.GT, va);
+			vt = vt.sub(1d, up);
+			exact(va, vt).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = Math.floor(a[i]);
+		}
+	}
+
+	@Override
+	public void ceil(double[] a, double[] out)
+	{
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vt = truncate(va);
+
+			// Truncation rounds positive values down.
+			VectorMask<Double> down = vt.compare(VectorOperators.LT, va);
+			vt = vt.add(1d, down);
+			exact(va, vt).intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			out[i] = Math.ceil(a[i]);
+		}
+	}
+
+
+	@Override
+	public void horner(double[] coef, double[] a, double[] out)
+	{
+		int deg = coef.length - 1;
+
+		int i = 0;
+		for(; i < SPECIES.loopBound(out.length); i += SPECIES.length())
+		{
+			DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+			DoubleVector vr = DoubleVector.broadcast(SPECIES, coef[deg]);
+			for(int d = deg - 1; d >= 0; d--)
+			{
+				DoubleVector vc = DoubleVector.broadcast(SPECIES, coef[d]);
+				vr = vr.fma(va, vc);
+			}
+
+			vr.intoArray(out, i);
+		}
+
+		for(; i < out.length; i++)
+		{
+			double val = coef[deg];
+			for(int d = deg - 1; d >= 0; d--)
+			{
+				val = Math.fma(val, a[i], coef[d]);
+			}
+
+			out[i] = val;
+		}
+	}
+
+
+	private static DoubleVector truncate(DoubleVector va)
+	{
+		return (DoubleVector) va
+			.convert(VectorOperators.D2L, 0)
+			.convert(VectorOperators.L2D, 0);
+	}
+
+	private static DoubleVector exact(DoubleVector va, DoubleVector vt)
+	{
+		// Zeroes keep the sign of their operand.
+		vt = vt.blend(va.mul(0d), vt.compare(VectorOperators.EQ, 0d));
+		// Large, infinite and NaN values are already integral.
+		VectorMask<Double> whole = va.abs().compare(VectorOperators.GE, EXACT);
+		whole = whole.or(va.test(VectorOperators.IS_NAN));
+		return vt.blend(va, whole);
+	}
+}
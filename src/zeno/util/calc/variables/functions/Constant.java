@@ -1,5 +1,7 @@
 package zeno.util.calc.variables.functions;
 
+import java.util.Arrays;
+
 import zeno.util.calc.Variable;
 
 /**
@@ -36,9 +38,45 @@ public class Constant implements Variable
 		this.val = val;
 	}
 	
+	
+	/**
+	 * Returns the value of the {@code Constant}.
+	 * 
+	 * @return  the constant value
+	 */
+	public double Value()
+	{
+		return val;
+	}
+	
+	
 	@Override
 	public double evaluate(double... args)
 	{
 		return val;
 	}
+	
+	@Override
+	public double evaluate1(double val)
+	{
+		return this.val;
+	}
+	
+	@Override
+	public double evaluate2(double val1, double val2)
+	{
+		return val;
+	}
+	
+	@Override
+	public double evaluate3(double val1, double val2, double val3)
+	{
+		return val;
+	}
+	
+	@Override
+	public void evaluateBatch(double[][] columns, double[] out)
+	{
+		Arrays.fill(out, val);
+	}
 }
@@ -1,18 +1,23 @@
 package zeno.util.calc.variables.functions;
 
-import java.util.TreeMap;
-import java.util.Map.Entry;
+import java.util.Arrays;
 
 import zeno.util.algebra.tensors.vectors.complex.Complex;
 import zeno.util.calc.variables.Function;
+import zeno.util.calc.variables.algorithms.Convolution;
+import zeno.util.calc.variables.algorithms.Root;
 import zeno.util.calc.variables.algorithms.RootFinder;
+import zeno.util.calc.variables.algorithms.RootMethod;
 import zeno.util.tools.generic.properties.Copyable;
 import zeno.util.tools.primitives.Doubles;
-import zeno.util.tools.primitives.Integers;
 
 /**
  * The {@code Polynomial} class defines a univariate (having only one variable) polynomial.
  * <br> The polynomial is of the form {@code a.x^n + b.x^(n-1) + ... + c.x^2 + d.x + e}.
+ * <br> Its cofficients are stored in a dense primitive array indexed by degree.
+ * Polynomials of a very high degree with few terms store only their non-zero terms instead.
+ * <br> Evaluation uses Horner's method up to degree eight, and Estrin's scheme above it.
+ * Estrin's scheme evaluates independent pairs of terms, which may round differently in the last bits.
  * 
  * @since Oct 27, 2014
  * @author Zeno
@@ -22,11 +27,16 @@ import zeno.util.tools.primitives.Integers;
  */
 public class Polynomial extends Function implements Copyable<Polynomial>
 {
-	private static RootFinder roots = new RootFinder();
-	
-	
-	private TreeMap<Integer, Double> terms;
-	
+	private static final int SPARSE_DEGREE = 256;
+	private static final int SPARSE_RATIO = 8;
+	private static final int ESTRIN_DEGREE = 8;
+
+	private static final RootFinder roots = new RootFinder();
+
+
+	private int[] degs;
+	private double[] coef;
+
 	/**
 	 * Creates a new {@code Polynomial}.
 	 * Each term is formatted as c, cx, or cx^p.
@@ -39,57 +49,28 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 * 
 	 * @param var   the variable name
 	 * @param text  the polynomial string
+	 * @throws IllegalArgumentException  if the text is not a valid polynomial
 	 */
 	public Polynomial(String var, String text)
 	{
-		this();
-		
-		// Normalize the polynomial string.
-		String standard = text.replaceAll(" ", "");
-		standard = standard.replaceAll("-", "+-");
-				
-		// Iterate each polynomial term.
-		String[] terms = standard.split("\\+");
-		for(int i = 0; i < terms.length; i++)
-		{
-			String term = terms[i];
-			
-			// Separate term into value and degree.
-			String[] split = new String[2];
-			if(term.contains(var))
-			{
-				if(term.contains("^"))
-					split = term.split(var + "\\^");
-				else
-				{
-					split[0] = term.replace(var, "");
-					split[1] = "1";
-				}
-			}
-			else
-			{
-				split[0] = term;
-				split[1] = "0";
-			}
-			
-			// Parse the value.
-			double val = 1.0;
-			if(!split[0].isEmpty())
-			{
-				if(!split[0].equals("-"))
-					val = Doubles.parse(split[0].trim());
-				else
-					val = -1.0;
-			}
-			
-			// Parse the degree.
-			int deg = Integers.parse(split[1].trim());
-			
-			// Add the parsed term.
-			add(deg, val);
-		}
+		this(var, (CharSequence) text);
 	}
-	
+
+	/**
+	 * Creates a new {@code Polynomial}.
+	 * Its terms are formatted the same way as in {@link #Polynomial(String, String)}.
+	 * <br> The text is read in a single pass without creating intermediate strings,
+	 * so it can be read directly from a {@code CharBuffer} or a {@code StringBuilder}.
+	 * 
+	 * @param var   the variable name
+	 * @param text  the polynomial text
+	 * @throws IllegalArgumentException  if the text is not a valid polynomial
+	 */
+	public Polynomial(String var, CharSequence text)
+	{
+		assign(new Scanner(var, text).polynomial());
+	}
+
 	/**
 	 * Creates a new {@code Polynomial}.
 	 * Its cofficients are defined from the highest degree to the lowest.
@@ -98,13 +79,15 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public Polynomial(double... vals)
 	{
-		terms = new TreeMap<>();
+		double[] coef = new double[Math.max(vals.length, 1)];
 		for(int i = 0; i < vals.length; i++)
 		{
-			set(vals.length - i - 1, vals[i]);
+			coef[vals.length - i - 1] = vals[i];
 		}
+
+		assign(dense(coef));
 	}
-		
+
 	/**
 	 * Creates a new {@code Polynomial}.
 	 */
@@ -112,8 +95,14 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	{
 		this(0);
 	}
-	
-	
+
+	private Polynomial(int[] degs, double[] coef)
+	{
+		this.degs = degs;
+		this.coef = coef;
+	}
+
+
 	/**
 	 * Multiplies the {@code Polynomial} with a term {@code Polynomial}.
 	 * 
@@ -123,16 +112,33 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public Polynomial times(int deg, double val)
 	{
-		Polynomial result = new Polynomial();
-		for(int degree : terms.navigableKeySet())
+		if(val == 0)
 		{
-			double value = val * Coefficient(degree);
-			result.set(deg + degree, value);
+			return new Polynomial();
 		}
-		
-		return result;
+
+		if(degs == null)
+		{
+			double[] result = new double[coef.length + deg];
+			for(int d = 0; d < coef.length; d++)
+			{
+				result[d + deg] = coef[d] * val;
+			}
+
+			return dense(result);
+		}
+
+		int[] rdegs = new int[degs.length];
+		double[] rvals = new double[degs.length];
+		for(int i = 0; i < degs.length; i++)
+		{
+			rdegs[i] = degs[i] + deg;
+			rvals[i] = coef[i] * val;
+		}
+
+		return sparse(rdegs, rvals, degs.length);
 	}
-	
+
 	/**
 	 * Calculates the addition with a single term {@code Polynomial}.
 	 * 
@@ -142,35 +148,62 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public Polynomial plus(int deg, double val)
 	{
-		Polynomial result = copy();
-		result.add(deg, val);
-		return result;
+		if(degs == null && deg < SPARSE_DEGREE)
+		{
+			double[] result = Arrays.copyOf(coef, Math.max(coef.length, deg + 1));
+			result[deg] += val;
+			return dense(result);
+		}
+
+		int count = Terms();
+		int[] rdegs = new int[count + 1];
+		double[] rvals = new double[count + 1];
+		terms(rdegs, rvals, 0);
+		rdegs[count] = deg;
+		rvals[count] = val;
+
+		return sparse(rdegs, rvals, count + 1);
 	}
-	
+
 	/**
 	 * Multiplies the {@code Polynomial} with a {@code Polynomial}.
+	 * <br> Products of high degree are computed with a fast {@link Convolution},
+	 * which has a weaker error bound than the schoolbook method.
 	 * 
 	 * @param poly  a polynomial to multiply with
 	 * @return  a polynomial result
 	 */
 	public Polynomial times(Polynomial poly)
 	{
-		double value = 0;
-		
-		Polynomial result = new Polynomial();
-		for(int deg1 : poly.terms.navigableKeySet())
+		if(degs == null && poly.degs == null)
 		{
-			for(int deg2 : terms.navigableKeySet())
+			return dense(Convolution.multiply(coef, poly.coef));
+		}
+
+
+		int count1 = poly.Terms();
+		int count2 = Terms();
+		int[] degs1 = new int[count1];
+		int[] degs2 = new int[count2];
+		double[] vals1 = new double[count1];
+		double[] vals2 = new double[count2];
+		poly.terms(degs1, vals1, 0);
+		terms(degs2, vals2, 0);
+
+		int[] rdegs = new int[count1 * count2];
+		double[] rvals = new double[count1 * count2];
+		for(int i = 0; i < count1; i++)
+		{
+			for(int j = 0; j < count2; j++)
 			{
-				value = Coefficient(deg2);
-				value *= poly.Coefficient(deg1);	
-				result.add(deg1 + deg2, value);
+				rdegs[i * count2 + j] = degs1[i] + degs2[j];
+				rvals[i * count2 + j] = vals1[i] * vals2[j];
 			}
 		}
-		
-		return result;
+
+		return sparse(rdegs, rvals, rdegs.length);
 	}
-	
+
 	/**
 	 * Calculates the subtraction with another {@code Polynomial}.
 	 * 
@@ -179,15 +212,9 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public Polynomial minus(Polynomial poly)
 	{
-		Polynomial copy = copy();
-		for(int deg : poly.terms.navigableKeySet())
-		{
-			copy.add(deg, -poly.Coefficient(deg));
-		}
-		
-		return copy;
+		return plus(poly, -1);
 	}
-		
+
 	/**
 	 * Calculates the addition with another {@code Polynomial}.
 	 * 
@@ -196,15 +223,9 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public Polynomial plus(Polynomial poly)
 	{
-		Polynomial copy = copy();
-		for(int deg : poly.terms.navigableKeySet())
-		{
-			copy.add(deg, poly.Coefficient(deg));
-		}
-		
-		return copy;
+		return plus(poly, 1);
 	}
-	
+
 	/**
 	 * Calculates the division with another {@code Polynomial}.
 	 * 
@@ -215,7 +236,37 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	{
 		return new Rational(this, poly);
 	}
-	
+
+	/**
+	 * Returns the derivative of the {@code Polynomial}.
+	 * 
+	 * @return  the polynomial's derivative
+	 */
+	public Polynomial derivative()
+	{
+		if(degs == null)
+		{
+			double[] result = new double[Math.max(coef.length - 1, 1)];
+			for(int d = 1; d < coef.length; d++)
+			{
+				result[d - 1] = d * coef[d];
+			}
+
+			return dense(result);
+		}
+
+		int[] rdegs = new int[degs.length];
+		double[] rvals = new double[degs.length];
+		for(int i = 0; i < degs.length; i++)
+		{
+			// The constant term becomes zero, and is dropped.
+			rdegs[i] = Math.max(degs[i] - 1, 0);
+			rvals[i] = degs[i] * coef[i];
+		}
+
+		return sparse(rdegs, rvals, degs.length);
+	}
+
 	/**
 	 * Returns a single term of the {@code Polynomial}.
 	 * 
@@ -224,12 +275,12 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public Polynomial Term(int deg)
 	{
-		Polynomial result = new Polynomial();
-		result.set(deg, Coefficient(deg));
-		return result;
+		int[] rdegs = new int[]{deg};
+		double[] rvals = new double[]{Coefficient(deg)};
+		return sparse(rdegs, rvals, 1);
 	}
-	
-	
+
+
 	/**
 	 * Returns a term cofficient of the {@code Polynomial}.
 	 * 
@@ -238,15 +289,25 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public double Coefficient(int deg)
 	{
-		Double val = terms.get(deg);
-		if(val != null)
+		if(degs == null)
 		{
-			return val;
+			if(0 <= deg && deg < coef.length)
+			{
+				return coef[deg];
+			}
+
+			return 0;
+		}
+
+		int index = Arrays.binarySearch(degs, deg);
+		if(index >= 0)
+		{
+			return coef[index];
 		}
-		
+
 		return 0;
 	}
-	
+
 	/**
 	 * Returns the complex roots of the {@code Polynomial}.
 	 * 
@@ -258,6 +319,19 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 		return roots.findComplexRoots(this);
 	}
 
+	/**
+	 * Returns the complex roots of the {@code Polynomial}.
+	 * 
+	 * @param method  a root finding method
+	 * @return  an array of complex roots
+	 * @see RootMethod
+	 * @see Complex
+	 */
+	public Complex[] ComplexRoots(RootMethod method)
+	{
+		return roots.findComplexRoots(this, method);
+	}
+
 	/**
 	 * Returns the cofficients of the {@code Polynomial}.
 	 * 
@@ -265,15 +339,44 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public double[] Coefficients()
 	{
-		double[] coef = new double[Degree() + 1];
-		for(int deg : terms.keySet())
+		if(degs == null)
+		{
+			return coef.clone();
+		}
+
+		double[] result = new double[Degree() + 1];
+		for(int i = 0; i < degs.length; i++)
 		{
-			coef[deg] = Coefficient(deg);
+			result[degs[i]] = coef[i];
 		}
-		
-		return coef;
+
+		return result;
 	}
-	
+
+	/**
+	 * Returns the double precision roots of the {@code Polynomial}.
+	 *
+	 * @return  an array of complex roots
+	 * @see Root
+	 */
+	public Root[] Roots()
+	{
+		return roots.findRoots(this);
+	}
+
+	/**
+	 * Returns the double precision roots of the {@code Polynomial}.
+	 * 
+	 * @param method  a root finding method
+	 * @return  an array of complex roots
+	 * @see RootMethod
+	 * @see Root
+	 */
+	public Root[] Roots(RootMethod method)
+	{
+		return roots.findRoots(this, method);
+	}
+
 	/**
 	 * Returns the real roots of the {@code Polynomial}.
 	 * 
@@ -283,7 +386,19 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	{
 		return roots.findRealRoots(this);
 	}
-	
+
+	/**
+	 * Returns the real roots of the {@code Polynomial} in an interval.
+	 * 
+	 * @param lo  the interval's lower bound
+	 * @param hi  the interval's upper bound
+	 * @return  an array of real roots, in ascending order
+	 */
+	public double[] RealRoots(double lo, double hi)
+	{
+		return roots.findRealRoots(this, lo, hi);
+	}
+
 	/**
 	 * Returns the degree of the {@code Polynomial}.
 	 * 
@@ -291,137 +406,682 @@ public class Polynomial extends Function implements Copyable<Polynomial>
 	 */
 	public int Degree()
 	{
-		if(!terms.isEmpty())
-			return terms.lastKey();
-		return -1;
+		if(degs == null)
+			return coef.length - 1;
+		return degs[degs.length - 1];
+	}
+
+	/**
+	 * Returns the term count of the {@code Polynomial}.
+	 * 
+	 * @return  the polynomial's non-zero term count
+	 */
+	public int Terms()
+	{
+		if(degs != null)
+		{
+			return degs.length;
+		}
+
+		int count = 0;
+		for(int d = 0; d < coef.length; d++)
+		{
+			if(coef[d] != 0)
+			{
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+
+	private void assign(Polynomial poly)
+	{
+		degs = poly.degs;
+		coef = poly.coef;
+	}
+
+	private Polynomial plus(Polynomial poly, double sign)
+	{
+		if(degs == null && poly.degs == null)
+		{
+			int length = Math.max(coef.length, poly.coef.length);
+			double[] result = Arrays.copyOf(coef, length);
+			for(int d = 0; d < poly.coef.length; d++)
+			{
+				result[d] += sign * poly.coef[d];
+			}
+
+			return dense(result);
+		}
+
+		int count1 = Terms();
+		int count2 = poly.Terms();
+		int[] rdegs = new int[count1 + count2];
+		double[] rvals = new double[count1 + count2];
+		terms(rdegs, rvals, 0);
+		poly.terms(rdegs, rvals, count1);
+		for(int i = count1; i < rvals.length; i++)
+		{
+			rvals[i] *= sign;
+		}
+
+		return sparse(rdegs, rvals, rdegs.length);
+	}
+
+	private void terms(int[] rdegs, double[] rvals, int offset)
+	{
+		if(degs != null)
+		{
+			System.arraycopy(degs, 0, rdegs, offset, degs.length);
+			System.arraycopy(coef, 0, rvals, offset, coef.length);
+			return;
+		}
+
+		for(int d = 0; d < coef.length; d++)
+		{
+			if(coef[d] != 0)
+			{
+				rdegs[offset] = d;
+				rvals[offset] = coef[d];
+				offset++;
+			}
+		}
+	}
+
+
+	private static boolean isSparse(int deg, int count)
+	{
+		return deg >= SPARSE_DEGREE && count * SPARSE_RATIO <= deg;
+	}
+
+	static Polynomial dense(double[] coef)
+	{
+		// Trim the leading zero terms.
+		int deg = coef.length - 1;
+		while(deg > 0 && coef[deg] == 0)
+		{
+			deg--;
+		}
+
+		if(deg < SPARSE_DEGREE)
+		{
+			if(deg + 1 < coef.length)
+				coef = Arrays.copyOf(coef, deg + 1);
+			return new Polynomial(null, coef);
+		}
+
+		int count = 0;
+		for(int d = 0; d <= deg; d++)
+		{
+			if(coef[d] != 0)
+			{
+				count++;
+			}
+		}
+
+		if(!isSparse(deg, count))
+		{
+			if(deg + 1 < coef.length)
+				coef = Arrays.copyOf(coef, deg + 1);
+			return new Polynomial(null, coef);
+		}
+
+		int[] rdegs = new int[count];
+		double[] rvals = new double[count];
+		for(int d = 0, i = 0; d <= deg; d++)
+		{
+			if(coef[d] != 0)
+			{
+				rdegs[i] = d;
+				rvals[i] = coef[d];
+				i++;
+			}
+		}
+
+		return new Polynomial(rdegs, rvals);
+	}
+
+	private static Polynomial sparse(int[] degs, double[] vals, int count)
+	{
+		// Sort the terms by degree.
+		long[] keys = new long[count];
+		for(int i = 0; i < count; i++)
+		{
+			if(degs[i] < 0)
+			{
+				throw new IllegalArgumentException("A polynomial term can not have a negative degree.");
+			}
+
+			keys[i] = (long) degs[i] << 32 | i;
+		}
+
+		Arrays.sort(keys);
+
+		// Merge terms of equal degree.
+		int size = 0;
+		int[] rdegs = new int[count];
+		double[] rvals = new double[count];
+		for(int i = 0; i < count; i++)
+		{
+			int deg = (int) (keys[i] >>> 32);
+			double val = vals[(int) keys[i]];
+			if(size > 0 && rdegs[size - 1] == deg)
+				rvals[size - 1] += val;
+			else
+			{
+				rdegs[size] = deg;
+				rvals[size] = val;
+				size++;
+			}
+		}
+
+		// Drop the zero terms.
+		int nonzero = 0;
+		for(int i = 0; i < size; i++)
+		{
+			if(rvals[i] != 0)
+			{
+				rdegs[nonzero] = rdegs[i];
+				rvals[nonzero] = rvals[i];
+				nonzero++;
+			}
+		}
+
+		if(nonzero == 0)
+		{
+			return new Polynomial();
+		}
+
+		int deg = rdegs[nonzero - 1];
+		if(!isSparse(deg, nonzero))
+		{
+			double[] coef = new double[deg + 1];
+			for(int i = 0; i < nonzero; i++)
+			{
+				coef[rdegs[i]] = rvals[i];
+			}
+
+			return new Polynomial(null, coef);
+		}
+
+		rdegs = Arrays.copyOf(rdegs, nonzero);
+		rvals = Arrays.copyOf(rvals, nonzero);
+		return new Polynomial(rdegs, rvals);
+	}
+
+	private static double horner(double[] coef, double val)
+	{
+		double result = coef[coef.length - 1];
+		for(int d = coef.length - 2; d >= 0; d--)
+		{
+			result = result * val + coef[d];
+		}
+
+		return result;
 	}
-	
-	
-	private void add(int deg, double val)
+
+	private static double estrin(double[] coef, double val)
 	{
-		Double curr = terms.get(deg);
-		if(curr != null)
-			set(deg, curr + val);
-		else
-			set(deg, val);
+		double val2 = val * val;
+		double val4 = val2 * val2;
+		double val8 = val4 * val4;
+
+		// Evaluate the leading partial block with Horner's method.
+		int blocks = coef.length / 8;
+		double result = 0;
+		for(int d = coef.length - 1; d >= 8 * blocks; d--)
+		{
+			result = result * val + coef[d];
+		}
+
+		// Evaluate each block of eight terms as independent pairs.
+		for(int b = 8 * (blocks - 1); b >= 0; b -= 8)
+		{
+			double p01 = coef[b + 0] + coef[b + 1] * val;
+			double p23 = coef[b + 2] + coef[b + 3] * val;
+			double p45 = coef[b + 4] + coef[b + 5] * val;
+			double p67 = coef[b + 6] + coef[b + 7] * val;
+
+			double p03 = p01 + p23 * val2;
+			double p47 = p45 + p67 * val2;
+
+			result = result * val8 + (p03 + p47 * val4);
+		}
+
+		return result;
 	}
 
-	private void set(int deg, double val)
+	private static double power(double val, int exp)
 	{
-		if(val != 0)
-			terms.put(deg, val);
-		else if(deg != 0)
-			terms.remove(deg);
-		else
-			terms.put(0, 0d);
+		double result = 1;
+		while(exp > 0)
+		{
+			if((exp & 1) != 0)
+			{
+				result *= val;
+			}
+
+			val *= val;
+			exp >>= 1;
+		}
+
+		return result;
 	}
-	
-	
+
+
 	@Override
 	public double evaluate(double... args)
 	{
+		return evaluate1(args[0]);
+	}
+
+	@Override
+	public double evaluate1(double val)
+	{
+		if(degs == null)
+		{
+			if(coef.length - 1 > ESTRIN_DEGREE)
+				return estrin(coef, val);
+			return horner(coef, val);
+		}
+
 		double result = 0; int deg = Degree();
-		for(int cur : terms.descendingKeySet())
+		for(int i = degs.length - 1; i >= 0; i--)
 		{
-			double pow = Doubles.pow(args[0], deg - cur);
-			double cff = terms.get(cur);
-			
-			result *= pow;
-			result += cff;
-			
-			deg = cur;
+			result *= power(val, deg - degs[i]);
+			result += coef[i];
+
+			deg = degs[i];
 		}
-	
-		return result;
+
+		return result * power(val, deg);
 	}
 
 	@Override
-	public Polynomial times(double val)
+	public void evaluateBatch(double[][] columns, double[] out)
 	{
-		Polynomial copy = copy();
-		for(int deg : terms.navigableKeySet())
+		double[] vals = columns[0];
+		double[] coef = Coefficients();
+
+		int deg = coef.length - 1;
+		Arrays.fill(out, coef[deg]);
+		for(int d = deg - 1; d >= 0; d--)
 		{
-			copy.set(deg, Coefficient(deg) * val);
+			double cff = coef[d];
+			for(int row = 0; row < out.length; row++)
+			{
+				out[row] = out[row] * vals[row] + cff;
+			}
 		}
-		
-		return copy;
+	}
+
+	@Override
+	public double evaluate2(double val1, double val2)
+	{
+		return evaluate1(val1);
+	}
+
+	@Override
+	public double evaluate3(double val1, double val2, double val3)
+	{
+		return evaluate1(val1);
+	}
+
+	@Override
+	public Polynomial times(double val)
+	{
+		return times(0, val);
 	}
 
 	@Override
 	public Polynomial minus(double val)
 	{
-		Polynomial copy = copy();
-		copy.set(0, Coefficient(0) - val);
-		return copy;
+		return plus(0, -val);
 	}
-	
+
 	@Override
 	public Polynomial plus(double val)
 	{
-		Polynomial copy = copy();
-		copy.set(0, Coefficient(0) + val);
-		return copy;
+		return plus(0, val);
 	}
 
 	@Override
 	public Polynomial over(double val)
 	{
-		Polynomial copy = copy();
-		for(int deg : terms.navigableKeySet())
+		if(degs == null)
+		{
+			double[] result = new double[coef.length];
+			for(int d = 0; d < coef.length; d++)
+			{
+				result[d] = coef[d] / val;
+			}
+
+			return dense(result);
+		}
+
+		double[] rvals = new double[coef.length];
+		for(int i = 0; i < coef.length; i++)
 		{
-			copy.set(deg, Coefficient(deg) / val);
+			rvals[i] = coef[i] / val;
 		}
-		
-		return copy;
+
+		return sparse(degs.clone(), rvals, rvals.length);
 	}
-	
+
 	@Override
 	public Polynomial instance()
 	{
 		return new Polynomial();
 	}
-	
+
 	@Override
 	public Polynomial copy()
 	{
-		Polynomial copy = Copyable.super.copy();
-		for(Entry<Integer, Double> entry : terms.entrySet())
-		{
-			copy.set(entry.getKey(), entry.getValue());
-		}
-		
-		return copy;
+		if(degs == null)
+			return new Polynomial(null, coef.clone());
+		return new Polynomial(degs.clone(), coef.clone());
 	}
-	
+
 	@Override
 	public String toString()
 	{
-		String poly = "";
-		
+		StringBuilder poly = new StringBuilder();
+
 		boolean isFirst = true;
-		for(int deg : terms.descendingKeySet())
+		for(int i = coef.length - 1; i >= 0; i--)
 		{
-			double val = terms.get(deg);
+			int deg = degs == null ? i : degs[i];
+			double val = coef[i];
 			double abs = Doubles.abs(val);
-			
+
 			if(val != 0)
 			{
-				poly += (val < 0 ? " - " : (isFirst ? "" : " + "));
-				poly += (abs != 1 || deg == 0 ? abs + " " : "");
-				poly += (deg != 0 ? "x" + (deg != 1 ? "^" + deg : "") : "");
+				poly.append(val < 0 ? " - " : (isFirst ? "" : " + "));
+				if(abs != 1 || deg == 0)
+					poly.append(abs).append(' ');
+				if(deg != 0)
+				{
+					poly.append('x');
+					if(deg != 1)
+						poly.append('^').append(deg);
+				}
+
 				isFirst = false;
 				continue;
 			}
-			
+
 			if(deg == 0)
 			{
-				if(poly.equals(""))
+				if(poly.length() == 0)
+				{
+					poly.append(val < 0 ? "-" : "").append(abs);
+				}
+			}
+		}
+
+		return poly.toString();
+	}
+
+
+	private static class Scanner
+	{
+		private static final long EXACT_LIMIT = 1L << 53;
+		private static final long MAX_EXPONENT = Integer.MAX_VALUE;
+		private static final int MAX_DIGITS = 18;
+		private static final double[] POWERS_OF_TEN =
+		{
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+			1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+		};
+
+
+		private String var;
+		private CharSequence text;
+		private int pos;
+
+		private int count;
+		private int[] degs;
+		private double[] vals;
+
+		public Scanner(String var, CharSequence text)
+		{
+			this.var = var;
+			this.text = text;
+
+			degs = new int[8];
+			vals = new double[8];
+		}
+
+
+		public Polynomial polynomial()
+		{
+			// The first term may have a sign of its own.
+			double sign = 1;
+			if(accept('-'))
+				sign = -1;
+			else
+				accept('+');
+
+			term(sign);
+			while(true)
+			{
+				if(accept('+'))
+					term(1);
+				else if(accept('-'))
+					term(-1);
+				else
+					break;
+			}
+
+			skip();
+			if(pos < text.length())
+			{
+				throw error("Unexpected character");
+			}
+
+			return sparse(degs, vals, count);
+		}
+
+		private void term(double sign)
+		{
+			skip();
+			int start = pos;
+
+			// Parse the value.
+			double val = 1;
+			if(pos < text.length() && (isDigit(text.charAt(pos)) || text.charAt(pos) == '.'))
+			{
+				val = number();
+
+				// A product needs the variable.
+				if(accept('*') && !isVariable())
 				{
-					poly += (val < 0 ? "-" : "") + abs;
-				}	
-			}			
+					throw error("Expected the variable");
+				}
+			}
+
+			// Parse the degree.
+			int deg = 0;
+			if(isVariable())
+			{
+				pos += var.length();
+				deg = 1;
+				if(accept('^'))
+				{
+					deg = degree();
+				}
+			}
+			else if(pos == start)
+			{
+				throw error("Expected a term");
+			}
+
+			add(deg, sign * val);
+		}
+
+		private double number()
+		{
+			int start = pos;
+			long mant = 0, scale = 0;
+			int digits = 0;
+			boolean isDot = false, isExact = true;
+			for(; pos < text.length(); pos++)
+			{
+				char c = text.charAt(pos);
+				if(c == '.')
+				{
+					if(isDot) break;
+					isDot = true;
+					continue;
+				}
+
+				if(!isDigit(c)) break;
+
+				// Digits beyond the mantissa are only kept as a scale.
+				if(digits < MAX_DIGITS)
+				{
+					mant = 10 * mant + (c - '0');
+					if(mant > 0) digits++;
+					if(isDot) scale--;
+				}
+				else
+				{
+					isExact &= c == '0';
+					if(!isDot) scale++;
+				}
+			}
+
+			if(pos == start + (isDot ? 1 : 0))
+			{
+				throw error("Invalid number");
+			}
+
+			// Parse an exponent, unless it is the variable.
+			if(pos < text.length() && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E') && !isVariable())
+			{
+				int mark = pos++;
+				int esign = 1;
+				if(pos < text.length() && (text.charAt(pos) == '+' || text.charAt(pos) == '-'))
+				{
+					esign = text.charAt(pos++) == '-' ? -1 : 1;
+				}
+
+				if(pos < text.length() && isDigit(text.charAt(pos)))
+					scale += esign * exponent();
+				else
+					pos = mark;
+			}
+
+			// Values that are exact in double precision are scaled with a single rounding.
+			if(isExact && mant < EXACT_LIMIT && -POWERS_OF_TEN.length < scale && scale < POWERS_OF_TEN.length)
+			{
+				if(scale < 0)
+					return mant / POWERS_OF_TEN[(int) -scale];
+				return mant * POWERS_OF_TEN[(int) scale];
+			}
+
+			return Double.parseDouble(text.subSequence(start, pos).toString());
+		}
+
+		private long exponent()
+		{
+			// Exponents far past the range of a double saturate.
+			long exp = 0;
+			while(pos < text.length() && isDigit(text.charAt(pos)))
+			{
+				exp = Math.min(10 * exp + (text.charAt(pos++) - '0'), MAX_EXPONENT);
+			}
+
+			return exp;
+		}
+
+		private int degree()
+		{
+			skip();
+			int start = pos;
+			long deg = 0;
+			while(pos < text.length() && isDigit(text.charAt(pos)))
+			{
+				deg = 10 * deg + (text.charAt(pos++) - '0');
+				if(deg > Integer.MAX_VALUE)
+				{
+					pos = start;
+					throw error("Degree out of range");
+				}
+			}
+
+			if(pos == start)
+			{
+				throw error("Expected a degree");
+			}
+
+			return (int) deg;
+		}
+
+		private void add(int deg, double val)
+		{
+			if(count == degs.length)
+			{
+				degs = Arrays.copyOf(degs, 2 * count);
+				vals = Arrays.copyOf(vals, 2 * count);
+			}
+
+			degs[count] = deg;
+			vals[count] = val;
+			count++;
+		}
+
+
+		private boolean isVariable()
+		{
+			skip();
+			int length = var.length();
+			if(length == 0 || pos + length > text.length())
+			{
+				return false;
+			}
+
+			for(int i = 0; i < length; i++)
+			{
+				if(text.charAt(pos + i) != var.charAt(i))
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private boolean accept(char c)
+		{
+			skip();
+			if(pos < text.length() && text.charAt(pos) == c)
+			{
+				pos++;
+				return true;
+			}
+
+			return false;
+		}
+
+		private void skip()
+		{
+			while(pos < text.length() && text.charAt(pos) == ' ')
+			{
+				pos++;
+			}
+		}
+
+		private IllegalArgumentException error(String message)
+		{
+			return new IllegalArgumentException(message + " at index " + pos + " in polynomial \"" + text + "\".");
+		}
+
+		private static boolean isDigit(char c)
+		{
+			return c >= '0' && c <= '9';
 		}
-		
-		return poly;
 	}
-}
\ No newline at end of file
+}
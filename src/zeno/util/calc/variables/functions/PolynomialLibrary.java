@@ -0,0 +1,358 @@
+package zeno.util.calc.variables.functions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+import zeno.util.calc.Variable;
+import zeno.util.calc.variables.Function;
+
+/**
+ * The {@code PolynomialLibrary} class stores collections of polynomials and rationals in a binary file.
+ * <br> The file starts with a header, followed by a table of part indices, a table of part offsets,
+ * and the cofficients of every part as packed little-endian doubles from the lowest degree up.
+ * A polynomial is stored as a single part, and a rational as its quotient, remainder and divisor.
+ * <br> An opened library maps the file into memory instead of reading it, so its cofficients stay
+ * off the heap and opening it takes a constant time. Each entry can be evaluated in place,
+ * viewed as a flyweight {@code Variable} over the mapped file, or copied into a {@code Polynomial}
+ * or {@code Rational}. Cofficients are stored densely, and a single file holds at most 2 GB.
+ * <br> Entries are evaluated with Horner's method, which may round differently from
+ * {@link Polynomial#evaluate} in the last bits for polynomials of a high degree.
+ * <br> A {@code PolynomialLibrary} is read-only, and safe for use by multiple threads.
+ * 
+ * @since Oct 17, 2026
+ * @author Zeno
+ * 
+ * @see Polynomial
+ * @see Rational
+ */
+public final class PolynomialLibrary
+{
+	private static final int MAGIC = 0x4C4F505A;
+	private static final int VERSION = 1;
+	private static final int HEADER = 16;
+
+
+	/**
+	 * Saves a collection of functions to a library file.
+	 * <br> An existing file is replaced.
+	 * 
+	 * @param path  a file path
+	 * @param funcs  a collection of polynomials and rationals
+	 * @throws IOException  if the file can not be written
+	 * @throws IllegalArgumentException  if a function is not a polynomial or rational, or the library is too large
+	 * @see Function
+	 */
+	public static void save(Path path, Collection<? extends Function> funcs) throws IOException
+	{
+		int count = funcs.size();
+
+		// Collect the parts of each entry.
+		int parts = 0;
+		Polynomial[] polys = new Polynomial[3 * count];
+		for(Function func : funcs)
+		{
+			if(func instanceof Polynomial)
+			{
+				polys[parts++] = (Polynomial) func;
+				continue;
+			}
+
+			if(func instanceof Rational)
+			{
+				Rational rat = (Rational) func;
+				polys[parts++] = rat.Quotient();
+				polys[parts++] = rat.Remainder();
+				polys[parts++] = rat.Divisor();
+				continue;
+			}
+
+			throw new IllegalArgumentException("The function " + func + " is not a polynomial or rational.");
+		}
+
+		long length = 0;
+		for(int j = 0; j < parts; j++)
+		{
+			length += polys[j].Degree() + 1;
+		}
+
+		long start = data(count, parts);
+		long size = start + 8 * length;
+		if(size > Integer.MAX_VALUE)
+		{
+			throw new IllegalArgumentException("A polynomial library can not exceed 2 GB.");
+		}
+
+		try(FileChannel channel = FileChannel.open(path,
+			StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.READ, StandardOpenOption.WRITE))
+		{
+			MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, size);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putInt(MAGIC);
+			buffer.putInt(VERSION);
+			buffer.putInt(count);
+			buffer.putInt(parts);
+
+			// Write the first part of each entry.
+			int first = 0;
+			buffer.putInt(first);
+			for(Function func : funcs)
+			{
+				first += func instanceof Rational ? 3 : 1;
+				buffer.putInt(first);
+			}
+
+			// Write the offset of each part.
+			int offset = 0;
+			buffer.putInt(offset);
+			for(int j = 0; j < parts; j++)
+			{
+				offset += polys[j].Degree() + 1;
+				buffer.putInt(offset);
+			}
+
+			DoubleBuffer data = slice(buffer, (int) start, (int) size).asDoubleBuffer();
+			for(int j = 0; j < parts; j++)
+			{
+				data.put(polys[j].Coefficients());
+			}
+
+			buffer.force();
+		}
+	}
+
+	/**
+	 * Opens a library file.
+	 * 
+	 * @param path  a file path
+	 * @return  the opened library
+	 * @throws IOException  if the file can not be read, or is not a polynomial library
+	 */
+	public static PolynomialLibrary open(Path path) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			if(size < HEADER || size > Integer.MAX_VALUE)
+			{
+				throw new IOException("The file " + path + " is not a polynomial library.");
+			}
+
+			MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, size);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			if(buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+			{
+				throw new IOException("The file " + path + " is not a polynomial library.");
+			}
+
+			int count = buffer.getInt(8);
+			int parts = buffer.getInt(12);
+			if(count < 0 || parts < 0 || data(count, parts) > size)
+			{
+				throw new IOException("The file " + path + " is damaged.");
+			}
+
+			PolynomialLibrary library = new PolynomialLibrary(buffer);
+			if(!library.isValid())
+			{
+				throw new IOException("The file " + path + " is damaged.");
+			}
+
+			return library;
+		}
+	}
+
+
+	private int count, parts;
+	private IntBuffer firsts, offsets;
+	private DoubleBuffer data;
+
+	private PolynomialLibrary(ByteBuffer buffer)
+	{
+		count = buffer.getInt(8);
+		parts = buffer.getInt(12);
+
+		int start = HEADER;
+		firsts = slice(buffer, start, start + 4 * (count + 1)).asIntBuffer();
+		start += 4 * (count + 1);
+		offsets = slice(buffer, start, start + 4 * (parts + 1)).asIntBuffer();
+		start = (int) data(count, parts);
+		data = slice(buffer, start, buffer.capacity()).asDoubleBuffer();
+	}
+
+
+	/**
+	 * Evaluates an entry of the {@code PolynomialLibrary} in place.
+	 * 
+	 * @param i  the entry's index
+	 * @param val  a single argument
+	 * @return  the evaluated result
+	 */
+	public double evaluate(int i, double val)
+	{
+		int j = firsts.get(i);
+		double result = horner(j, val);
+		if(isRational(i))
+		{
+			result += horner(j + 1, val) / horner(j + 2, val);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns a view of an entry in the {@code PolynomialLibrary}.
+	 * <br> The view evaluates the entry in place, without copying its cofficients.
+	 * 
+	 * @param i  the entry's index
+	 * @return  the entry's view
+	 * @see Variable
+	 */
+	public Variable view(int i)
+	{
+		if(i < 0 || i >= count)
+		{
+			throw new IndexOutOfBoundsException("The library has no entry " + i + ".");
+		}
+
+		return new View(this, i);
+	}
+
+	/**
+	 * Returns a copy of an entry in the {@code PolynomialLibrary}.
+	 * 
+	 * @param i  the entry's index
+	 * @return  a polynomial or rational copy
+	 * @see Polynomial
+	 * @see Rational
+	 */
+	public Function get(int i)
+	{
+		int j = firsts.get(i);
+		if(isRational(i))
+		{
+			return new Rational(part(j), part(j + 1), part(j + 2));
+		}
+
+		return part(j);
+	}
+
+	/**
+	 * Indicates if an entry of the {@code PolynomialLibrary} is a rational.
+	 * 
+	 * @param i  the entry's index
+	 * @return  {@code true} if the entry is a rational
+	 */
+	public boolean isRational(int i)
+	{
+		return firsts.get(i + 1) - firsts.get(i) == 3;
+	}
+
+	/**
+	 * Returns the size of the {@code PolynomialLibrary}.
+	 * 
+	 * @return  the library's entry count
+	 */
+	public int Size()
+	{
+		return count;
+	}
+
+
+	private double horner(int j, double val)
+	{
+		int lo = offsets.get(j);
+		int hi = offsets.get(j + 1) - 1;
+
+		double result = data.get(hi);
+		for(int d = hi - 1; d >= lo; d--)
+		{
+			result = result * val + data.get(d);
+		}
+
+		return result;
+	}
+
+	private Polynomial part(int j)
+	{
+		int lo = offsets.get(j);
+		int hi = offsets.get(j + 1);
+
+		double[] coef = new double[hi - lo];
+		for(int d = lo; d < hi; d++)
+		{
+			coef[d - lo] = data.get(d);
+		}
+
+		return Polynomial.dense(coef);
+	}
+
+	private boolean isValid()
+	{
+		// Entries hold one or three parts, and parts hold at least one cofficient.
+		for(int i = 0; i < count; i++)
+		{
+			int n = firsts.get(i + 1) - firsts.get(i);
+			if(n != 1 && n != 3) return false;
+		}
+
+		for(int j = 0; j < parts; j++)
+		{
+			if(offsets.get(j + 1) <= offsets.get(j)) return false;
+		}
+
+		return firsts.get(0) == 0 && firsts.get(count) == parts
+			&& offsets.get(0) == 0 && offsets.get(parts) <= data.capacity();
+	}
+
+
+	private static long data(int count, int parts)
+	{
+		// The cofficients start at a multiple of eight bytes.
+		long start = HEADER + 4L * (count + 1) + 4L * (parts + 1);
+		return (start + 7) & ~7L;
+	}
+
+	private static ByteBuffer slice(ByteBuffer buffer, int start, int end)
+	{
+		ByteBuffer result = buffer.duplicate();
+		result.position(start);
+		result.limit(end);
+		return result.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+
+	private static final class View implements Variable
+	{
+		private PolynomialLibrary library;
+		private int index;
+
+		public View(PolynomialLibrary library, int index)
+		{
+			this.library = library;
+			this.index = index;
+		}
+
+
+		@Override
+		public double evaluate(double... args)
+		{
+			return evaluate1(args[0]);
+		}
+
+		@Override
+		public double evaluate1(double val)
+		{
+			return library.evaluate(index, val);
+		}
+	}
+}
@@ -44,13 +44,77 @@ public class Rational extends Function
 		}
 	}
 	
+	/**
+	 * Creates a new {@code Rational} from its division parts.
+	 * 
+	 * @param quotient  a quotient polynomial
+	 * @param remainder  a remainder polynomial
+	 * @param divisor  a divisor polynomial
+	 * @see Polynomial
+	 */
+	Rational(Polynomial quotient, Polynomial remainder, Polynomial divisor)
+	{
+		this.quotient = quotient;
+		this.upper = remainder;
+		this.lower = divisor;
+	}
+	
 	@Override
 	public double evaluate(double... args)
 	{
-		return quotient.evaluate(args) + upper.evaluate(args) / lower.evaluate(args);
+		return evaluate1(args[0]);
+	}
+	
+	@Override
+	public double evaluate1(double val)
+	{
+		return quotient.evaluate1(val) + upper.evaluate1(val) / lower.evaluate1(val);
+	}
+	
+	@Override
+	public void evaluateBatch(double[][] columns, double[] out)
+	{
+		double[] numer = new double[out.length];
+		double[] denom = new double[out.length];
+		
+		quotient.evaluateBatch(columns, out);
+		upper.evaluateBatch(columns, numer);
+		lower.evaluateBatch(columns, denom);
+		for(int row = 0; row < out.length; row++)
+		{
+			out[row] += numer[row] / denom[row];
+		}
+	}
+	
+	@Override
+	public double evaluate2(double val1, double val2)
+	{
+		return evaluate1(val1);
+	}
+	
+	@Override
+	public double evaluate3(double val1, double val2, double val3)
+	{
+		return evaluate1(val1);
 	}
 
 	
+	/**
+	 * Returns the derivative of the {@code Rational}.
+	 * <br> The derivative of {@code q + r / d} is {@code q' + (r'.d - r.d') / d^2}.
+	 * Its remainder is of a lower degree than {@code d^2}, so no division is needed.
+	 * 
+	 * @return  the rational derivative
+	 */
+	public Rational derivative()
+	{
+		Polynomial square = lower.times(lower);
+		Polynomial remainder = upper.derivative().times(lower)
+			.minus(upper.times(lower.derivative()));
+		
+		return new Rational(quotient.derivative(), remainder, square);
+	}
+	
 	/**
 	 * Returns the remainder of the {@code Rational}.
 	 * 